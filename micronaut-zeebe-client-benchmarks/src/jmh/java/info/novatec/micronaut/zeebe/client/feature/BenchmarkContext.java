@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.inject.ExecutableMethod;
+
+import java.util.Map;
+
+/**
+ * Shared setup of the benchmarks: an application context with the {@link BenchmarkHandlers} and a
+ * {@link ZeebeWorkerProcessor} to create the job handlers the same way as for a {@link ZeebeWorker}.
+ * <p>
+ * The benchmarks are located in the package of the feature to access the protected factory methods of the processor.
+ */
+public class BenchmarkContext implements AutoCloseable {
+
+    /**
+     * A document with some variables which are not read by the handlers, as usual for process instances.
+     */
+    public static final String VARIABLES = """
+            {"orderId":4711,"customer":"ACME","amount":99.5,
+             "items":[{"sku":"A-1","quantity":2},{"sku":"B-2","quantity":1},{"sku":"C-3","quantity":7}],
+             "address":{"street":"Main Street 1","city":"Berlin","zip":"10115","country":"DE"},
+             "notes":"Please deliver to the back door, the front door is locked on weekends."}
+            """;
+
+    private final ApplicationContext applicationContext;
+    private final ZeebeWorkerProcessor processor;
+    private final ZeebeClient zeebeClient;
+    private final BenchmarkHandlers handlers;
+    private final JobClient jobClient;
+    private final ActivatedJob job;
+
+    public BenchmarkContext(boolean useJacksonMapperOfMicronaut) {
+        applicationContext = ApplicationContext.run(Map.of(
+                "zeebe.client.cloud.use-jackson-mapper-of-micronaut", useJacksonMapperOfMicronaut,
+                "zeebe.client.cloud.metrics-enabled", false));
+        processor = applicationContext.getBean(ZeebeWorkerProcessor.class);
+        handlers = applicationContext.getBean(BenchmarkHandlers.class);
+        zeebeClient = applicationContext.getBean(ZeebeClient.class);
+        jobClient = FakeJobs.jobClient(zeebeClient.getConfiguration().getJsonMapper());
+        job = FakeJobs.activatedJob(VARIABLES, zeebeClient.getConfiguration().getJsonMapper());
+    }
+
+    public ExecutableMethod<BenchmarkHandlers, ?> method(String name, Class<?>... argumentTypes) {
+        return applicationContext.getBeanDefinition(BenchmarkHandlers.class).getRequiredMethod(name, argumentTypes);
+    }
+
+    /**
+     * @return the handler the processor creates for the method
+     */
+    public JobHandler jobHandler(ExecutableMethod<BenchmarkHandlers, ?> method, boolean autoComplete) {
+        AnnotationValue<ZeebeWorker> annotation = AnnotationValue.builder(ZeebeWorker.class)
+                .member("type", "benchmark")
+                .member("autoComplete", autoComplete)
+                .build();
+        return processor.createJobHandler("", zeebeClient, annotation, handlers, method);
+    }
+
+    public BenchmarkHandlers getHandlers() {
+        return handlers;
+    }
+
+    public JobClient getJobClient() {
+        return jobClient;
+    }
+
+    public ActivatedJob getJob() {
+        return job;
+    }
+
+    @Override
+    public void close() {
+        applicationContext.close();
+    }
+}
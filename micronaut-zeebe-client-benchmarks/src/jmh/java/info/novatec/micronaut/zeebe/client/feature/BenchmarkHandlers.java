@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.micronaut.context.annotation.Executable;
+import jakarta.inject.Singleton;
+
+import java.util.Map;
+
+/**
+ * The handlers invoked by the benchmarks. The methods are only executable and not annotated with {@link ZeebeWorker},
+ * so that no job workers are opened.
+ */
+@Singleton
+public class BenchmarkHandlers {
+
+    @Executable
+    public void handle(JobClient client, ActivatedJob job) {
+        job.getKey();
+    }
+
+    @Executable
+    public Object handleVariablesAsMap(JobClient client, ActivatedJob job) {
+        return job.getVariablesAsMap().get("orderId");
+    }
+
+    @Executable
+    public Object handleVariables(@Variable long orderId, @Variable String customer) {
+        return customer;
+    }
+
+    @Executable
+    public Object handleVariablesAsType(@VariablesAsType Order order) {
+        return order;
+    }
+
+    @Executable
+    public Map<String, Object> complete(@Variable long orderId) {
+        return Map.of("orderId", orderId, "approved", true);
+    }
+
+    public static class Order {
+
+        private long orderId;
+        private String customer;
+        private double amount;
+
+        public long getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(long orderId) {
+            this.orderId = orderId;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+    }
+}
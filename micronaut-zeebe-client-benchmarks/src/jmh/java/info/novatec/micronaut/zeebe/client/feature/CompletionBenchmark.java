@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the complete command of an auto-completed handler compared to a handler completing the job itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompletionBenchmark {
+
+    private BenchmarkContext context;
+    private JobHandler autoComplete;
+    private JobClient client;
+    private ActivatedJob job;
+
+    @Setup
+    public void setup() {
+        context = new BenchmarkContext(false);
+        autoComplete = context.jobHandler(context.method("complete", long.class), true);
+        client = context.getJobClient();
+        job = context.getJob();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object manualComplete() {
+        return client.newCompleteCommand(job.getKey())
+                .variables(Map.of("orderId", 4711L, "approved", true))
+                .send();
+    }
+
+    @Benchmark
+    public void autoComplete() throws Exception {
+        autoComplete.handle(client, job);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.impl.ZeebeClientFutureImpl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * In-process fakes of a {@link JobClient} and an {@link ActivatedJob}. Commands serialize their variables like the
+ * commands of the Zeebe client do, but are completed immediately instead of being sent to a gateway.
+ */
+public final class FakeJobs {
+
+    private FakeJobs() {
+    }
+
+    public static JobClient jobClient(JsonMapper jsonMapper) {
+        return proxy(JobClient.class, new CommandHandler(jsonMapper));
+    }
+
+    public static ActivatedJob activatedJob(String variables, JsonMapper jsonMapper) {
+        long deadline = System.currentTimeMillis() + 3_600_000;
+        return proxy(ActivatedJob.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getKey", "getProcessInstanceKey", "getProcessDefinitionKey", "getElementInstanceKey" -> 1L;
+            case "getType" -> "benchmark";
+            case "getRetries" -> 3;
+            case "getDeadline" -> deadline;
+            case "getVariables" -> variables;
+            case "getVariablesAsMap" -> jsonMapper.fromJsonAsMap(variables);
+            case "getVariablesAsType" -> jsonMapper.fromJson(variables, (Class<?>) args[0]);
+            case "getVariable" -> jsonMapper.fromJsonAsMap(variables).get((String) args[0]);
+            case "getCustomHeaders" -> Map.of();
+            default -> defaultValue(proxy, method, args);
+        });
+    }
+
+    static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(FakeJobs.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    static Object defaultValue(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> method.getDeclaringClass().getSimpleName();
+            default -> method.getReturnType() == int.class ? 0
+                    : method.getReturnType() == long.class ? 0L
+                    : method.getReturnType() == boolean.class ? false
+                    : null;
+        };
+    }
+
+    /**
+     * Creates commands for every {@code new...Command} method and returns the same command for every builder step.
+     */
+    static class CommandHandler implements InvocationHandler {
+
+        private final JsonMapper jsonMapper;
+
+        CommandHandler(JsonMapper jsonMapper) {
+            this.jsonMapper = jsonMapper;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            Class<?> returnType = method.getReturnType();
+            switch (method.getName()) {
+                case "variables" -> {
+                    if (args[0] instanceof String json) {
+                        jsonMapper.validateJson("variables", json);
+                    } else {
+                        jsonMapper.toJson(args[0]);
+                    }
+                }
+                case "variable" -> jsonMapper.toJson(Map.of(args[0], args[1]));
+                case "send" -> {
+                    ZeebeClientFutureImpl<Object, Object> future = new ZeebeClientFutureImpl<>();
+                    future.complete(null);
+                    return future;
+                }
+                case "hashCode", "equals", "toString" -> {
+                    return defaultValue(proxy, method, args);
+                }
+                default -> {
+                }
+            }
+            if (returnType.isInstance(proxy)) {
+                return proxy;
+            }
+            if (returnType.isInterface() && !ZeebeFuture.class.isAssignableFrom(returnType)) {
+                return proxy(returnType, this);
+            }
+            return defaultValue(proxy, method, args);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.micronaut.inject.ExecutableMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the invocation of a handler through its {@link ExecutableMethod} with the handler created by the
+ * {@link ZeebeWorkerProcessor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobDispatchBenchmark {
+
+    private BenchmarkContext context;
+    private BenchmarkHandlers bean;
+    private ExecutableMethod<BenchmarkHandlers, ?> method;
+    private JobHandler directHandler;
+    private JobClient client;
+    private ActivatedJob job;
+
+    @Setup
+    public void setup() {
+        context = new BenchmarkContext(false);
+        bean = context.getHandlers();
+        method = context.method("handle", JobClient.class, ActivatedJob.class);
+        directHandler = context.jobHandler(method, false);
+        client = context.getJobClient();
+        job = context.getJob();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object executableMethod() {
+        return method.invoke(bean, client, job);
+    }
+
+    @Benchmark
+    public void direct() throws Exception {
+        directHandler.handle(client, job);
+    }
+}
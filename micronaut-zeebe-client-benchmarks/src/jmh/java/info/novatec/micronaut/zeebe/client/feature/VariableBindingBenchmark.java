@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading variables from the {@link ActivatedJob} within the handler with parameters bound by
+ * {@link Variable} and {@link VariablesAsType}, with and without Micronaut's ObjectMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VariableBindingBenchmark {
+
+    @Param({"false", "true"})
+    public boolean useJacksonMapperOfMicronaut;
+
+    private BenchmarkContext context;
+    private JobHandler variablesAsMap;
+    private JobHandler variables;
+    private JobHandler variablesAsType;
+    private JobClient client;
+    private ActivatedJob job;
+
+    @Setup
+    public void setup() {
+        context = new BenchmarkContext(useJacksonMapperOfMicronaut);
+        variablesAsMap = context.jobHandler(context.method("handleVariablesAsMap", JobClient.class, ActivatedJob.class), false);
+        variables = context.jobHandler(context.method("handleVariables", long.class, String.class), false);
+        variablesAsType = context.jobHandler(context.method("handleVariablesAsType", BenchmarkHandlers.Order.class), false);
+        client = context.getJobClient();
+        job = context.getJob();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void variablesAsMap() throws Exception {
+        variablesAsMap.handle(client, job);
+    }
+
+    @Benchmark
+    public void variables() throws Exception {
+        variables.handle(client, job);
+    }
+
+    @Benchmark
+    public void variablesAsType() throws Exception {
+        variablesAsType.handle(client, job);
+    }
+}
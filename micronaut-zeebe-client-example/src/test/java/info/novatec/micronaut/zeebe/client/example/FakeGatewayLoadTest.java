@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.example;
+
+import info.novatec.micronaut.zeebe.client.feature.StartupPhases;
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import info.novatec.micronaut.zeebe.client.testing.FakeJobStream;
+import info.novatec.micronaut.zeebe.client.testing.RecordedCommand;
+import io.micronaut.context.ApplicationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of the example workers against an in-process {@link FakeGateway}. It logs the throughput and the latency
+ * from the activation to the completion of the jobs.
+ */
+class FakeGatewayLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeGatewayLoadTest.class);
+
+    private static final int JOBS = 1_000;
+
+    @Test
+    @Timeout(value = 2, unit = TimeUnit.MINUTES)
+    void workersShouldCompleteAllJobs() throws Exception {
+        try (FakeGateway gateway = FakeGateway.builder()
+                .jobs("say-hello", JOBS)
+                .jobStream(new FakeJobStream("say-goodbye", JOBS).variables("{\"x\": 42}"))
+                .commandLatency(Duration.ofMillis(1), Duration.ofMillis(2))
+                .build()
+                .start();
+             ApplicationContext applicationContext = ApplicationContext.run(
+                     Collections.singletonMap("zeebe.client.cloud.gateway-address", gateway.getAddress()))) {
+
+            assertTrue(gateway.awaitCommands(2 * JOBS, Duration.ofMinutes(1)));
+            assertTrue(gateway.getCommands().stream().allMatch(command -> command.type() == RecordedCommand.Type.COMPLETE));
+            assertTrue(applicationContext.getBean(StartupPhases.class).getPhases().keySet()
+                    .containsAll(List.of(StartupPhases.APPLICATION, StartupPhases.CLIENT, StartupPhases.HANDLERS)));
+            log.info("Completed {} jobs with {} jobs/s, p50 {}, p99 {}", 2 * JOBS, (long) gateway.getThroughput(),
+                    gateway.getLatencyPercentile(50), gateway.getLatencyPercentile(99));
+        }
+    }
+}
@@ -15,11 +15,15 @@
  */
 package info.novatec.micronaut.zeebe.client.example;
 
+import info.novatec.micronaut.zeebe.client.feature.Variable;
+import info.novatec.micronaut.zeebe.client.feature.VariablesAsType;
 import info.novatec.micronaut.zeebe.client.feature.ZeebeWorker;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import jakarta.inject.Singleton;
 
+import java.util.Map;
+
 /**
  * This handler contains all possible annotation properties. It will never be called but the values will be parsed on startup.
  *
@@ -28,8 +32,28 @@ import jakarta.inject.Singleton;
 @Singleton
 public class HandlerWithAllAnnotationProperties {
 
-    @ZeebeWorker(type = "some-random-type", timeout = "PT1S", requestTimeout = "PT2S", pollInterval = "PT3S", maxJobsActive = 99)
+    @ZeebeWorker(type = "some-random-type", timeout = "PT1S", requestTimeout = "PT2S", pollInterval = "PT3S", maxJobsActive = 99, streamEnabled = true, streamTimeout = "PT4S", jobExecutor = "virtual", fetchVariables = {"x", "y"})
     public void doSomething(JobClient client, ActivatedJob job) {
         throw new UnsupportedOperationException("");
     }
+
+    @ZeebeWorker(type = "some-random-type-with-executor", executor = "io", maxJobsActive = 5)
+    public void doSomethingWithExecutor(JobClient client, ActivatedJob job) {
+        throw new UnsupportedOperationException("");
+    }
+
+    @ZeebeWorker(type = "some-random-type-with-executor-threads", executorThreads = 2, maxJobsActive = 5, adaptiveJobsActive = true, minJobsActive = 2, targetLatency = "PT0.5S")
+    public void doSomethingWithExecutorThreads(JobClient client, ActivatedJob job) {
+        throw new UnsupportedOperationException("");
+    }
+
+    @ZeebeWorker(type = "some-random-type-with-variables")
+    public void doSomethingWithVariables(JobClient client, @Variable("x") int x, @Variable String name, @VariablesAsType Map<String, Object> variables) {
+        throw new UnsupportedOperationException("");
+    }
+
+    @ZeebeWorker(type = "some-random-type-auto-completed", autoComplete = true)
+    public Map<String, Object> doSomethingAndComplete(@Variable("x") int x) {
+        throw new UnsupportedOperationException("");
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.example;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import info.novatec.micronaut.zeebe.client.testing.FakeJobStream;
+import info.novatec.micronaut.zeebe.client.testing.RecordedCommand;
+import io.micronaut.context.ApplicationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies what only breaks in a native image: the reflection configuration generated for the variable types of the
+ * workers and the Jackson binding relying on it. Run it as native image with {@code ../gradlew nativeTest}, the
+ * throughput of the workers is covered by the {@link FakeGatewayLoadTest}.
+ */
+class NativeSmokeTest {
+
+    private static final String REFLECT_CONFIG = "META-INF/native-image/info.novatec.micronaut.zeebe.client.example/zeebe-workers/reflect-config.json";
+
+    @Test
+    @Timeout(value = 1, unit = TimeUnit.MINUTES)
+    void variablesShouldBeBoundToAndCompletedFromBeans() throws Exception {
+        try (FakeGateway gateway = FakeGateway.builder()
+                .jobStream(new FakeJobStream("check-order", 1).variables("{\"orderId\": 4711, \"amount\": 2.5, \"quantity\": 4}"))
+                .build()
+                .start();
+             ApplicationContext ignored = ApplicationContext.run(Map.of(
+                     "zeebe.client.cloud.gateway-address", gateway.getAddress(),
+                     "order-handler.enabled", true))) {
+
+            assertThat(gateway.awaitCommands(1, Duration.ofSeconds(30))).isTrue();
+            RecordedCommand command = gateway.getCommands().stream()
+                    .filter(recorded -> recorded.jobType().equals("check-order"))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(command.type()).isEqualTo(RecordedCommand.Type.COMPLETE);
+            assertThat(command.variables()).contains("\"orderId\":4711").contains("\"total\":10.0");
+        }
+    }
+
+    @Test
+    void variableTypesShouldBeRegisteredForReflection() {
+        // without registration a native image reports no constructors and fields instead of failing the lookup
+        for (Class<?> type : new Class<?>[]{OrderHandler.Order.class, OrderHandler.Receipt.class}) {
+            assertThat(type.getDeclaredConstructors()).isNotEmpty();
+            assertThat(type.getDeclaredFields()).isNotEmpty();
+            assertThat(type.getDeclaredMethods()).isNotEmpty();
+        }
+    }
+
+    @Test
+    @DisabledInNativeImage
+    void reflectionConfigurationShouldBeGenerated() throws Exception {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(REFLECT_CONFIG)) {
+            assertThat(in).isNotNull();
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .contains("\"name\":\"" + OrderHandler.Order.class.getName() + "\"")
+                    .contains("\"name\":\"" + OrderHandler.Receipt.class.getName() + "\"");
+        }
+    }
+}
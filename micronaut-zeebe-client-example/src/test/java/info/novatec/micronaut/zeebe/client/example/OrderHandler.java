@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.example;
+
+import info.novatec.micronaut.zeebe.client.feature.VariablesAsType;
+import info.novatec.micronaut.zeebe.client.feature.ZeebeWorker;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+/**
+ * A worker whose variables are bound to and completed from plain Java beans, which Jackson creates via reflection. Used
+ * by the {@link NativeSmokeTest} to verify the reflection configuration generated for native images.
+ */
+@Singleton
+@Requires(property = "order-handler.enabled", value = "true")
+public class OrderHandler {
+
+    @ZeebeWorker(type = "check-order")
+    public Receipt checkOrder(@VariablesAsType Order order) {
+        Receipt receipt = new Receipt();
+        receipt.setOrderId(order.getOrderId());
+        receipt.setTotal(order.getAmount() * order.getQuantity());
+        return receipt;
+    }
+
+    public static class Order {
+
+        private long orderId;
+        private double amount;
+        private int quantity;
+
+        public long getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(long orderId) {
+            this.orderId = orderId;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+
+    public static class Receipt {
+
+        private long orderId;
+        private double total;
+
+        public long getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(long orderId) {
+            this.orderId = orderId;
+        }
+
+        public double getTotal() {
+            return total;
+        }
+
+        public void setTotal(double total) {
+            this.total = total;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+/**
+ * A concurrency limit which adapts to the observed latency with additive increase and multiplicative decrease (AIMD).
+ * <p>
+ * The limit is increased by one for every job handled within the target latency while at least half of the limit is in
+ * use. It is decreased by {@link #BACKOFF_RATIO} for every job which took longer than the target latency or exceeded
+ * its deadline. Only jobs being handled count as in use, as permits are taken once jobs are activated, see
+ * {@link LimitedJobWorker}.
+ */
+public class AdaptiveConcurrencyLimit implements ConcurrencyLimit {
+
+    public static final double BACKOFF_RATIO = 0.9;
+
+    protected final int minLimit;
+    protected final int maxLimit;
+    protected final long targetLatencyNanos;
+
+    protected double limit;
+    protected int inFlight;
+
+    public AdaptiveConcurrencyLimit(int minLimit, int maxLimit, long targetLatencyNanos) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.limit = this.minLimit;
+    }
+
+    @Override
+    public synchronized int available() {
+        return Math.max(0, (int) limit - inFlight);
+    }
+
+    @Override
+    public synchronized int tryAcquire(int permits) {
+        int taken = Math.max(0, Math.min(permits, (int) limit - inFlight));
+        inFlight += taken;
+        return taken;
+    }
+
+    @Override
+    public synchronized void release(int permits) {
+        inFlight -= permits;
+    }
+
+    @Override
+    public synchronized void release(long latencyNanos, boolean dropped) {
+        if (dropped || latencyNanos > targetLatencyNanos) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
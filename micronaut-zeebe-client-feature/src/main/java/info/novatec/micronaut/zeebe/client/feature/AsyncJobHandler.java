@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link JobHandler} which may still be handling the job when its invocation returns, e.g. for a {@link ZeebeWorker}
+ * method returning a {@link CompletionStage} or a {@link Publisher}. The returned stage completes once the job is
+ * handled, so that concurrency limits, in-flight tracking and metrics cover the whole handling instead of the
+ * invocation only, without holding a thread in the meantime.
+ */
+@FunctionalInterface
+public interface AsyncJobHandler extends JobHandler {
+
+    /**
+     * The stage returned by handlers which handled the job before returning.
+     */
+    CompletionStage<Object> COMPLETED = CompletableFuture.completedStage(null);
+
+    /**
+     * @param client the client to send commands for the job
+     * @param job the activated job
+     * @return a stage completed once the job is handled or {@link #COMPLETED} if it is already handled. The stage
+     * completes exceptionally if the handler failed, after the failure was reported for the job, e.g. with a fail
+     * command.
+     * @throws Exception if the handler failed before returning
+     */
+    CompletionStage<?> handleAsync(JobClient client, ActivatedJob job) throws Exception;
+
+    @Override
+    default void handle(JobClient client, ActivatedJob job) throws Exception {
+        handleAsync(client, job);
+    }
+
+    /**
+     * @return the stage of an {@link AsyncJobHandler} or {@link #COMPLETED} once any other handler returned
+     */
+    static CompletionStage<?> handleAsync(JobHandler handler, JobClient client, ActivatedJob job) throws Exception {
+        if (handler instanceof AsyncJobHandler asyncJobHandler) {
+            return asyncJobHandler.handleAsync(client, job);
+        }
+        handler.handle(client, job);
+        return COMPLETED;
+    }
+
+    /**
+     * @return whether a method with this return type handles jobs asynchronously
+     */
+    static boolean isAsync(Class<?> returnType) {
+        return CompletionStage.class.isAssignableFrom(returnType) || Publisher.class.isAssignableFrom(returnType);
+    }
+}
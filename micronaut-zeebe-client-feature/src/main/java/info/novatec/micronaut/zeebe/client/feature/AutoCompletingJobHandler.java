@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Completes jobs with the return value of a {@link ZeebeWorker} method.
+ * <p>
+ * The return value is used as variables of the complete command. A {@link CompletionStage} or a {@link Publisher},
+ * e.g. a Reactor Mono or an RxJava Flowable, is subscribed to without blocking; the first element of a publisher is
+ * used. The job worker thread returns at once while the signals of the publisher arrive on the threads of the reactive
+ * client, e.g. the Netty event loop of an HTTP client. Exceptions fail the job, a {@link ZeebeBpmnError} throws a
+ * BPMN error.
+ */
+public class AutoCompletingJobHandler implements AsyncJobHandler {
+
+    protected final JobInvoker invoker;
+    protected final JobCompleter jobCompleter;
+
+    public AutoCompletingJobHandler(JobInvoker invoker, JobCompleter jobCompleter) {
+        this.invoker = invoker;
+        this.jobCompleter = jobCompleter;
+    }
+
+    /**
+     * @return a stage completed once the result of an asynchronous method is available and the job is completed. It
+     * completes exceptionally with the failure of the method once the job was failed, so that the failure is recorded
+     * as the outcome of the job.
+     */
+    @Override
+    public CompletionStage<?> handleAsync(JobClient client, ActivatedJob job) {
+        Object result;
+        try {
+            result = invoker.invoke(client, job);
+        } catch (Exception e) {
+            return fail(client, job, e);
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            return completeWhenDone(client, job, stage);
+        } else if (result instanceof Publisher<?> publisher) {
+            return completeWhenDone(client, job, toCompletionStage(publisher));
+        }
+        jobCompleter.complete(client, job, result);
+        return COMPLETED;
+    }
+
+    protected CompletionStage<?> completeWhenDone(JobClient client, ActivatedJob job, CompletionStage<?> stage) {
+        return stage.<CompletionStage<?>>handle((variables, throwable) -> throwable != null
+                        ? fail(client, job, throwable)
+                        : jobCompleter.complete(client, job, variables))
+                .thenCompose(next -> next.thenApply(ignored -> null));
+    }
+
+    /**
+     * Fails the job and returns a stage completed exceptionally with the failure once the fail command was sent.
+     */
+    protected CompletionStage<?> fail(JobClient client, ActivatedJob job, Throwable throwable) {
+        return jobCompleter.fail(client, job, throwable)
+                .handle((ignored, failure) -> null)
+                .thenCompose(ignored -> CompletableFuture.failedFuture(throwable));
+    }
+
+    /**
+     * @return a stage completed with the first element of the publisher or with null if it completes empty
+     */
+    public static CompletionStage<Object> toCompletionStage(Publisher<?> publisher) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<Object>() {
+
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Object item) {
+                if (future.complete(item)) {
+                    subscription.cancel();
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(null);
+            }
+        });
+        return future;
+    }
+}
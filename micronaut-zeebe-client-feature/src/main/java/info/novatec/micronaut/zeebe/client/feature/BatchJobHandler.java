@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import org.reactivestreams.Publisher;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects activated jobs and hands them to a {@link ZeebeWorker} method in batches of up to
+ * {@link ZeebeWorker#batchSize()} jobs, e.g. to write them to a database with a single bulk insert.
+ * <p>
+ * A batch is handed over once it is full or {@link ZeebeWorker#batchWindow()} after its first job arrived. Every job
+ * stays in flight until its batch was handled, see {@link AsyncJobHandler}, so that the job worker activates no more
+ * jobs than maxJobsActive in the meantime. Jobs of different clients are handed over in separate batches.
+ * <p>
+ * The outcome of every job is reported separately: the method may return a list with one element per job in the order
+ * of the batch. An element which is a {@link Throwable} fails its job, a {@link ZeebeBpmnError} throws a BPMN error.
+ * Other elements are the variables to complete the job with. Any other return value is used as variables of every job.
+ * If the method throws an exception, every job of the batch is failed. The stage of a failed job completes
+ * exceptionally, so that the failure is recorded as the outcome of the job.
+ */
+public class BatchJobHandler implements AsyncJobHandler {
+
+    /**
+     * Invokes a {@link ZeebeWorker} method for a batch of activated jobs and returns its result.
+     */
+    @FunctionalInterface
+    public interface BatchInvoker {
+
+        /**
+         * @param client the client to send commands for the jobs
+         * @param jobs the activated jobs
+         * @return the return value of the method or null for void methods
+         * @throws Exception if the method throws an exception
+         */
+        Object invoke(JobClient client, List<ActivatedJob> jobs) throws Exception;
+    }
+
+    protected final BatchInvoker invoker;
+    protected final JobCompleter jobCompleter;
+    protected final boolean autoComplete;
+    protected final int batchSize;
+    protected final long batchWindowNanos;
+    protected final ScheduledExecutorService scheduler;
+    protected final Executor executor;
+
+    protected List<PendingJob> pending = new ArrayList<>();
+    protected ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * @param invoker the invoker of the method
+     * @param jobCompleter the completer reporting the outcome of every job
+     * @param autoComplete whether jobs are completed with the result of the method or by the method itself
+     * @param batchSize the maximum number of jobs per batch
+     * @param batchWindowNanos the maximum time the first job of a batch waits for the batch to fill up
+     * @param scheduler the scheduler handing over batches which did not fill up
+     * @param executor the executor running the method
+     */
+    public BatchJobHandler(BatchInvoker invoker, JobCompleter jobCompleter, boolean autoComplete, int batchSize,
+                           long batchWindowNanos, ScheduledExecutorService scheduler, Executor executor) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive but was " + batchSize);
+        }
+        this.invoker = invoker;
+        this.jobCompleter = jobCompleter;
+        this.autoComplete = autoComplete;
+        this.batchSize = batchSize;
+        this.batchWindowNanos = batchWindowNanos;
+        this.scheduler = scheduler;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletionStage<?> handleAsync(JobClient client, ActivatedJob job) {
+        PendingJob pendingJob = new PendingJob(client, job, new CompletableFuture<>());
+        List<PendingJob> batch = null;
+        synchronized (this) {
+            pending.add(pendingJob);
+            if (pending.size() >= batchSize) {
+                batch = takeBatch();
+            } else if (pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, batchWindowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+        return pendingJob.future();
+    }
+
+    /**
+     * Hands over the jobs collected so far, even if the batch is not full yet.
+     */
+    public void flush() {
+        List<PendingJob> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takeBatch();
+        }
+        dispatch(batch);
+    }
+
+    protected synchronized List<PendingJob> takeBatch() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<PendingJob> batch = pending;
+        pending = new ArrayList<>(batchSize);
+        return batch;
+    }
+
+    protected void dispatch(List<PendingJob> batch) {
+        try {
+            executor.execute(() -> handleBatch(batch));
+        } catch (RejectedExecutionException e) {
+            batch.forEach(pendingJob -> {
+                jobCompleter.fail(pendingJob.client(), pendingJob.job(), e);
+                pendingJob.future().completeExceptionally(e);
+            });
+        }
+    }
+
+    protected void handleBatch(List<PendingJob> batch) {
+        Map<JobClient, List<PendingJob>> batchesByClient = new IdentityHashMap<>();
+        for (PendingJob pendingJob : batch) {
+            batchesByClient.computeIfAbsent(pendingJob.client(), client -> new ArrayList<>()).add(pendingJob);
+        }
+        batchesByClient.forEach(this::handleBatch);
+    }
+
+    protected void handleBatch(JobClient client, List<PendingJob> batch) {
+        List<ActivatedJob> jobs = batch.stream().map(PendingJob::job).toList();
+        CompletionStage<?> stage;
+        try {
+            Object result = invoker.invoke(client, jobs);
+            if (result instanceof CompletionStage<?> completionStage) {
+                stage = completionStage;
+            } else if (result instanceof Publisher<?> publisher) {
+                stage = AutoCompletingJobHandler.toCompletionStage(publisher);
+            } else {
+                stage = CompletableFuture.completedFuture(result);
+            }
+        } catch (Exception e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        stage.whenComplete((result, throwable) -> report(client, batch, result, throwable));
+    }
+
+    protected void report(JobClient client, List<PendingJob> batch, Object result, Throwable throwable) {
+        try {
+            if (throwable != null) {
+                batch.forEach(pendingJob -> report(client, pendingJob, throwable));
+            } else if (result instanceof List<?> results) {
+                if (results.size() != batch.size()) {
+                    IllegalStateException e = new IllegalStateException("Expected " + batch.size() + " results for the batch but got " + results.size());
+                    batch.forEach(pendingJob -> report(client, pendingJob, e));
+                    return;
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    report(client, batch.get(i), results.get(i));
+                }
+            } else {
+                batch.forEach(pendingJob -> report(client, pendingJob, result));
+            }
+        } finally {
+            // no effect on jobs whose outcome was reported
+            batch.forEach(pendingJob -> pendingJob.future().complete(null));
+        }
+    }
+
+    protected void report(JobClient client, PendingJob pendingJob, Object result) {
+        if (result instanceof Throwable failure) {
+            jobCompleter.fail(client, pendingJob.job(), failure);
+            pendingJob.future().completeExceptionally(failure);
+            return;
+        }
+        if (autoComplete) {
+            jobCompleter.complete(client, pendingJob.job(), result);
+        }
+        pendingJob.future().complete(null);
+    }
+
+    protected record PendingJob(JobClient client, ActivatedJob job, CompletableFuture<Object> future) {
+    }
+}
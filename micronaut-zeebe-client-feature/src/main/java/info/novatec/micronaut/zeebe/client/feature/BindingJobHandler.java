@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.ExecutableMethod;
+
+import java.io.IOException;
+
+/**
+ * Invokes a {@link ZeebeWorker} method whose parameters are bound to the {@link JobClient}, the {@link ActivatedJob}
+ * or to process variables annotated with {@link Variable} or {@link VariablesAsType}.
+ * <p>
+ * A missing or null variable is bound as null, except to a primitive parameter: then the invocation fails, so that
+ * the job is failed instead of handled with a default value like 0.
+ * <p>
+ * The readers for all parameters are resolved once on creation. The variables of a job are parsed only once: directly
+ * into the target type for a single {@link VariablesAsType} parameter, otherwise into a tree shared by all parameters.
+ */
+public class BindingJobHandler implements JobHandler, JobInvoker {
+
+    protected final Object bean;
+    protected final ExecutableMethod<Object, ?> method;
+    protected final JobVariableMapper jobVariableMapper;
+    protected final ArgumentResolver[] resolvers;
+    protected final boolean readsVariableTree;
+
+    @SuppressWarnings("unchecked")
+    public BindingJobHandler(Object bean, ExecutableMethod<?, ?> method, JobVariableMapper jobVariableMapper) {
+        this.bean = bean;
+        this.method = (ExecutableMethod<Object, ?>) method;
+        this.jobVariableMapper = jobVariableMapper;
+        Argument<?>[] arguments = method.getArguments();
+        this.resolvers = new ArgumentResolver[arguments.length];
+        int bindings = 0;
+        boolean variable = false;
+        for (int i = 0; i < arguments.length; i++) {
+            Argument<?> argument = arguments[i];
+            if (argument.getAnnotationMetadata().hasAnnotation(Variable.class)) {
+                String name = getVariableName(argument);
+                ObjectReader reader = jobVariableMapper.readerFor(argument);
+                boolean primitive = argument.isPrimitive();
+                resolvers[i] = (client, job, variables) -> {
+                    JsonNode value = variables.get(name);
+                    if (primitive && (value == null || value.isNull())) {
+                        // Jackson would bind the default value, e.g. 0, which cannot be told apart from a real value
+                        throw new IllegalArgumentException("Job " + job.getKey() + " has no variable '" + name + "' for the primitive parameter '"
+                                + argument.getName() + "' of " + method.getDeclaringType().getName() + "#" + method.getMethodName()
+                                + ", use a wrapper type to accept a missing variable");
+                    }
+                    return reader.readValue(value == null ? NullNode.getInstance() : value);
+                };
+                bindings++;
+                variable = true;
+            } else if (argument.getAnnotationMetadata().hasAnnotation(VariablesAsType.class)) {
+                ObjectReader reader = jobVariableMapper.readerFor(argument);
+                resolvers[i] = (client, job, variables) -> variables != null ? reader.readValue(variables) : reader.readValue(job.getVariables());
+                bindings++;
+            } else if (argument.getType() == JobClient.class) {
+                resolvers[i] = (client, job, variables) -> client;
+            } else if (argument.getType() == ActivatedJob.class) {
+                resolvers[i] = (client, job, variables) -> job;
+            } else {
+                throw new IllegalArgumentException("Cannot bind parameter '" + argument.getName() + "' of " + method.getDeclaringType().getName() + "#" + method.getMethodName());
+            }
+        }
+        this.readsVariableTree = variable || bindings > 1;
+    }
+
+    /**
+     * @param argument a parameter of a {@link ZeebeWorker} method
+     * @return the name of the process variable bound by {@link Variable}
+     */
+    public static String getVariableName(Argument<?> argument) {
+        return argument.getAnnotationMetadata().stringValue(Variable.class)
+                .filter(name -> !name.isEmpty())
+                .orElse(argument.getName());
+    }
+
+    /**
+     * @param argument a parameter of a {@link ZeebeWorker} method
+     * @return whether the parameter can be bound by this handler
+     */
+    public static boolean isBindable(Argument<?> argument) {
+        return argument.getAnnotationMetadata().hasAnnotation(Variable.class)
+               || argument.getAnnotationMetadata().hasAnnotation(VariablesAsType.class)
+               || argument.getType() == JobClient.class
+               || argument.getType() == ActivatedJob.class;
+    }
+
+    @Override
+    public void handle(JobClient client, ActivatedJob job) throws Exception {
+        invoke(client, job);
+    }
+
+    /**
+     * Binds the parameters for the given job and invokes the method.
+     *
+     * @return the return value of the method
+     */
+    @Override
+    public Object invoke(JobClient client, ActivatedJob job) throws IOException {
+        JsonNode variables = readsVariableTree ? jobVariableMapper.readTree(job.getVariables()) : null;
+        Object[] args = new Object[resolvers.length];
+        for (int i = 0; i < resolvers.length; i++) {
+            args[i] = resolvers[i].resolve(client, job, variables);
+        }
+        return method.invoke(bean, args);
+    }
+
+    @FunctionalInterface
+    protected interface ArgumentResolver {
+        Object resolve(JobClient client, ActivatedJob job, JsonNode variables) throws IOException;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.netty.GrpcSslContexts;
+import io.grpc.netty.NettyChannelBuilder;
+import jakarta.annotation.Nullable;
+
+import javax.net.ssl.SSLException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Routes the calls of a {@link ZeebeClient} to a {@link PooledChannel} or to a channel with another HTTP/2 flow control
+ * window.
+ * <p>
+ * The client is built by its builder as usual, so that the ZEEBE_* environment variables, credentials and defaults of
+ * the builder apply. Registered as the first interceptor, this interceptor runs after all other interceptors and sends
+ * each call, including its call credentials, to its own channels instead of the channel of the client, which stays
+ * unused and therefore never connects. The channels are created like the client creates its channel, from the final
+ * configuration of the built client, see {@link #open(ZeebeClientConfiguration)}.
+ */
+public class ChannelPoolInterceptor implements ClientInterceptor, AutoCloseable {
+
+    /**
+     * The service config of the gateway shipped with the Zeebe client, which defines its default retry policy.
+     */
+    protected static final String DEFAULT_SERVICE_CONFIG = "gateway-service-config.json";
+
+    protected final int poolSize;
+    protected final PooledChannel.Selection selection;
+    protected final Integer flowControlWindow;
+
+    protected volatile ManagedChannel channel;
+
+    /**
+     * @param poolSize the number of channels
+     * @param selection how a channel is selected for a call
+     * @param flowControlWindow the initial HTTP/2 flow control window of each channel or null for the default
+     */
+    public ChannelPoolInterceptor(int poolSize, PooledChannel.Selection selection, @Nullable Integer flowControlWindow) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Invalid channel pool size " + poolSize + ", it must be at least 1");
+        }
+        this.poolSize = poolSize;
+        this.selection = selection;
+        this.flowControlWindow = flowControlWindow;
+    }
+
+    /**
+     * Creates the channels once the client is built.
+     *
+     * @param configuration the configuration of the built client
+     */
+    public synchronized void open(ZeebeClientConfiguration configuration) {
+        if (channel != null) {
+            return;
+        }
+        List<ManagedChannel> channels = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            channels.add(createChannel(configuration));
+        }
+        channel = poolSize == 1 ? channels.get(0) : new PooledChannel(channels, selection);
+    }
+
+    @Override
+    public <Q, R> ClientCall<Q, R> interceptCall(MethodDescriptor<Q, R> method, CallOptions callOptions, Channel next) {
+        ManagedChannel pool = channel;
+        return pool != null ? pool.newCall(method, callOptions) : next.newCall(method, callOptions);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel != null) {
+            channel.shutdown();
+        }
+    }
+
+    /**
+     * Creates a channel with the settings the client applies to its own channel, i.e. the gateway address, transport
+     * security, keep alive, message and metadata size limits, user agent and default retry policy, and the flow
+     * control window.
+     */
+    protected ManagedChannel createChannel(ZeebeClientConfiguration configuration) {
+        NettyChannelBuilder channelBuilder = NettyChannelBuilder.forTarget(configuration.getGatewayAddress());
+        if (configuration.isPlaintextConnectionEnabled()) {
+            channelBuilder.usePlaintext();
+        } else {
+            channelBuilder.useTransportSecurity();
+            if (configuration.getCaCertificatePath() != null) {
+                try {
+                    channelBuilder.sslContext(GrpcSslContexts.forClient()
+                            .trustManager(new File(configuration.getCaCertificatePath()))
+                            .build());
+                } catch (SSLException e) {
+                    throw new IllegalArgumentException("Failed to use CA certificate " + configuration.getCaCertificatePath(), e);
+                }
+            }
+        }
+        if (configuration.getOverrideAuthority() != null) {
+            channelBuilder.overrideAuthority(configuration.getOverrideAuthority());
+        }
+        channelBuilder.keepAliveTime(configuration.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+        channelBuilder.maxInboundMessageSize(configuration.getMaxMessageSize());
+        channelBuilder.maxInboundMetadataSize(configuration.getMaxMetadataSize());
+        channelBuilder.userAgent(getUserAgent());
+        if (configuration.useDefaultRetryPolicy()) {
+            Map<String, ?> serviceConfig = getDefaultServiceConfig();
+            if (!serviceConfig.isEmpty()) {
+                channelBuilder.defaultServiceConfig(serviceConfig);
+                channelBuilder.enableRetry();
+            }
+        }
+        if (flowControlWindow != null) {
+            channelBuilder.flowControlWindow(flowControlWindow);
+        }
+        return channelBuilder.build();
+    }
+
+    /**
+     * Reads the service config the client applies to its own channel if its default retry policy is used. Numbers are
+     * read as doubles, as the channel builder accepts no other number type.
+     *
+     * @return the service config or an empty map if the Zeebe client ships none
+     */
+    protected Map<String, ?> getDefaultServiceConfig() {
+        try (InputStream serviceConfig = ZeebeClient.class.getClassLoader().getResourceAsStream(DEFAULT_SERVICE_CONFIG)) {
+            if (serviceConfig == null) {
+                return Map.of();
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, ?> map = (Map<String, ?>) toServiceConfigValue(new ObjectMapper().readTree(serviceConfig));
+            return map;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + DEFAULT_SERVICE_CONFIG, e);
+        }
+    }
+
+    protected Object toServiceConfigValue(JsonNode node) {
+        if (node.isObject()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            node.fields().forEachRemaining(field -> map.put(field.getKey(), toServiceConfigValue(field.getValue())));
+            return map;
+        }
+        if (node.isArray()) {
+            List<Object> list = new ArrayList<>(node.size());
+            node.forEach(element -> list.add(toServiceConfigValue(element)));
+            return list;
+        }
+        if (node.isNumber()) {
+            return node.doubleValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        return node.isNull() ? null : node.asText();
+    }
+
+    /**
+     * @return the user agent of the Zeebe client with the version of its jar
+     */
+    protected String getUserAgent() {
+        String version = ZeebeClient.class.getPackage().getImplementationVersion();
+        return "zeebe-client-java/" + (version != null ? version : "development");
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sends commands without waiting for the response of the previous command, with a bounded number of commands in flight.
+ * <p>
+ * A command is retried if the gateway rejects it with RESOURCE_EXHAUSTED, i.e. the broker applies backpressure. The
+ * retries back off exponentially with full jitter, so that rejected senders do not retry in lockstep. A command keeps
+ * its place in the window while waiting for a retry, so that senders slow down while the broker is overloaded.
+ */
+public class CommandPipeline implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CommandPipeline.class);
+
+    public static final int DEFAULT_MAX_RETRIES = 10;
+    public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMillis(50);
+    public static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(5);
+
+    protected final int maxInFlight;
+    protected final int maxRetries;
+    protected final long retryBackoffNanos;
+    protected final Semaphore inFlight;
+    protected final ScheduledExecutorService retryScheduler;
+
+    /**
+     * @param name the name of the thread scheduling retries
+     * @param maxInFlight the maximum number of commands sent but not yet answered, including commands waiting for a retry
+     * @param maxRetries the maximum number of retries of a command rejected because of backpressure
+     * @param retryBackoff the backoff before the first retry, doubled for every further retry
+     */
+    public CommandPipeline(String name, int maxInFlight, int maxRetries, Duration retryBackoff) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffNanos = Math.max(1, retryBackoff.toNanos());
+        this.inFlight = new Semaphore(this.maxInFlight);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name(name).daemon().factory());
+    }
+
+    /**
+     * Sends a command once there is room in the window, blocking the caller until then.
+     *
+     * @param command creates the command, it is called again for every retry
+     * @param <T> the type of the response
+     * @return a future completed with the response or the failure of the last attempt
+     */
+    public <T> CompletableFuture<T> send(Supplier<? extends FinalCommandStep<T>> command) {
+        return send(command, result -> null);
+    }
+
+    /**
+     * Sends a command once there is room in the window and a preceding command is answered, e.g. to keep the order of
+     * commands for the same entity. The preceding command is determined only once the command holds its room in the
+     * window, so that a command never waits for a command which still waits for room itself.
+     *
+     * @param command creates the command, it is called again for every retry
+     * @param predecessor called with the future of the command, returns the stage to wait for or null
+     * @param <T> the type of the response
+     * @return a future completed with the response or the failure of the last attempt
+     */
+    public <T> CompletableFuture<T> send(Supplier<? extends FinalCommandStep<T>> command, Function<CompletableFuture<T>, CompletionStage<?>> predecessor) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.whenComplete((response, throwable) -> inFlight.release());
+        CompletionStage<?> preceding;
+        try {
+            preceding = predecessor.apply(result);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        if (preceding == null) {
+            send(command, 0, result);
+        } else {
+            preceding.whenComplete((response, throwable) -> send(command, 0, result));
+        }
+        return result;
+    }
+
+    protected <T> void send(Supplier<? extends FinalCommandStep<T>> command, int attempt, CompletableFuture<T> result) {
+        CompletionStage<T> response;
+        try {
+            response = command.get().send();
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        response.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = unwrap(throwable);
+            if (attempt < maxRetries && isBackpressure(cause)) {
+                long backoffNanos = getRetryBackoffNanos(attempt);
+                log.debug("Retrying command rejected because of backpressure in {} ms", TimeUnit.NANOSECONDS.toMillis(backoffNanos));
+                try {
+                    retryScheduler.schedule(() -> send(command, attempt + 1, result), backoffNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    result.completeExceptionally(cause);
+                }
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    /**
+     * @return a random backoff between zero and the exponential backoff of the attempt
+     */
+    protected long getRetryBackoffNanos(int attempt) {
+        long backoff = Math.min(MAX_RETRY_BACKOFF.toNanos(), retryBackoffNanos << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(backoff + 1);
+    }
+
+    protected boolean isBackpressure(Throwable throwable) {
+        if (throwable instanceof ClientStatusException clientStatusException) {
+            return clientStatusException.getStatusCode() == Status.Code.RESOURCE_EXHAUSTED;
+        }
+        return throwable instanceof StatusRuntimeException statusRuntimeException
+               && statusRuntimeException.getStatus().getCode() == Status.Code.RESOURCE_EXHAUSTED;
+    }
+
+    protected Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * @return the number of commands sent but not yet answered
+     */
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * Waits until all commands sent so far are answered.
+     *
+     * @param timeout the maximum time to wait
+     * @return whether all commands were answered in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitInFlight(Duration timeout) throws InterruptedException {
+        if (inFlight.tryAcquire(maxInFlight, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            inFlight.release(maxInFlight);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stops retrying: commands waiting for a retry are sent a last time at once.
+     */
+    @Override
+    public void close() {
+        retryScheduler.shutdownNow().forEach(Runnable::run);
+    }
+}
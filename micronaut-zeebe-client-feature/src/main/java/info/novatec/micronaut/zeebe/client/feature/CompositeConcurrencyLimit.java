@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+/**
+ * Combines the limit of a single job worker with a limit shared by other job workers, e.g. the
+ * {@link ZeebeWorker#maxConcurrentJobs()} of a job type worked on in several clusters. A job may only be handled once
+ * both limits are acquired.
+ */
+public class CompositeConcurrencyLimit implements ConcurrencyLimit {
+
+    protected final ConcurrencyLimit limit;
+    protected final ConcurrencyLimit sharedLimit;
+
+    public CompositeConcurrencyLimit(ConcurrencyLimit limit, ConcurrencyLimit sharedLimit) {
+        this.limit = limit;
+        this.sharedLimit = sharedLimit;
+    }
+
+    @Override
+    public int available() {
+        return Math.min(limit.available(), sharedLimit.available());
+    }
+
+    @Override
+    public int tryAcquire(int permits) {
+        int taken = limit.tryAcquire(permits);
+        if (taken == 0) {
+            return 0;
+        }
+        int shared = sharedLimit.tryAcquire(taken);
+        if (shared < taken) {
+            limit.release(taken - shared);
+        }
+        return shared;
+    }
+
+    @Override
+    public void release(int permits) {
+        sharedLimit.release(permits);
+        limit.release(permits);
+    }
+
+    @Override
+    public void release(long latencyNanos, boolean dropped) {
+        sharedLimit.release(latencyNanos, dropped);
+        limit.release(latencyNanos, dropped);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+/**
+ * Limits the number of jobs of a worker which are handled at the same time.
+ * <p>
+ * A job worker sizes its activate requests by the available permits and takes permits without blocking once jobs are
+ * activated, so that a job worker at its limit just activates no more jobs instead of holding a thread, see
+ * {@link LimitedJobWorker}. Permits are only held by jobs being handled.
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * @return the number of permits which can be taken now, 0 if the limit is reached
+     */
+    int available();
+
+    /**
+     * Takes up to the given number of permits without blocking.
+     *
+     * @param permits the maximum number of permits to take
+     * @return the number of permits taken, 0 if the limit is reached
+     */
+    int tryAcquire(int permits);
+
+    /**
+     * Returns permits which were taken but not used, e.g. because fewer jobs were activated than requested.
+     *
+     * @param permits the number of unused permits
+     */
+    void release(int permits);
+
+    /**
+     * Called once the job of a permit was handled.
+     *
+     * @param latencyNanos the time the job was handled
+     * @param dropped whether the job exceeded its deadline
+     */
+    void release(long latencyNanos, boolean dropped);
+}
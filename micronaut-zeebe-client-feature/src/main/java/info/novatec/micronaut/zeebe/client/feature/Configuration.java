@@ -15,7 +15,6 @@
  */
 package info.novatec.micronaut.zeebe.client.feature;
 
-import io.camunda.zeebe.client.ZeebeClientBuilder;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Context;
 
@@ -30,128 +29,180 @@ import java.util.Optional;
  */
 @Context
 @ConfigurationProperties("zeebe.client.cloud")
-public interface Configuration {
+public interface Configuration extends ClientConfiguration {
 
     /**
-     * The clusterId when connecting to Camunda Platform 8. Don't set this for a local Zeebe Broker.
-     * @see io.camunda.zeebe.client.ZeebeClientCloudBuilderStep1#withClusterId(String)
+     * the default time after which a job stream is recreated as ISO 8601 standard formatted String
+     * e.g. PT8H for 8 hours
+     * @see io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3#streamTimeout(Duration)
      *
-     * @return the clusterId
+     * @return the default stream timeout
      */
-    Optional<String> getClusterId();
+    Optional<String> getDefaultJobWorkerStreamTimeout();
 
     /**
-     * The clientId to connect to Camunda Platform 8. Don't set this for a local Zeebe Broker.
-     * @see io.camunda.zeebe.client.ZeebeClientCloudBuilderStep1.ZeebeClientCloudBuilderStep2#withClientId(String)
+     * whether the job workers are opened in parallel once the application started instead of one after another while
+     * the application context starts
+     * @see ZeebeWorkerProcessor#onStartupEvent(io.micronaut.context.event.StartupEvent)
      *
-     * @return the the clientId
+     * @return whether job workers are opened after startup
      */
-    Optional<String> getClientId();
+    Optional<Boolean> getOpenWorkersAfterStartup();
 
     /**
-     * The clientSecret to connect to Camunda Platform 8. Don't set this for a local Zeebe Broker.
-     * @see io.camunda.zeebe.client.ZeebeClientCloudBuilderStep1.ZeebeClientCloudBuilderStep2.ZeebeClientCloudBuilderStep3#withClientSecret(String)
+     * the default time without activated jobs after which a job worker switches to idle mode as ISO 8601 standard
+     * formatted String e.g. PT1M for 1 minute. Job workers have no idle mode by default.
+     * @see ZeebeWorker#idleAfter()
      *
-     * @return the name of the clientSecret
+     * @return the default idle time
      */
-    Optional<String> getClientSecret();
+    Optional<String> getDefaultJobIdleAfter();
 
     /**
-     * The region of the Camunda Platform 8 cluster
-     * @see io.camunda.zeebe.client.ZeebeClientCloudBuilderStep1.ZeebeClientCloudBuilderStep2.ZeebeClientCloudBuilderStep3.ZeebeClientCloudBuilderStep4#withRegion(String)
+     * the default request timeout of activate requests in idle mode as ISO 8601 standard formatted String
+     * e.g. PT5M for 5 minutes
+     * @see ZeebeWorker#idleRequestTimeout()
      *
-     * @return the region where your cluster is located
+     * @return the default idle request timeout
      */
-    Optional<String> getRegion();
+    Optional<String> getDefaultJobIdleRequestTimeout();
 
     /**
-     * Whether to connect with plain text or SSL/TLS. This option is not evaluated when connecting to Camunda Platform 8 which always uses a secure connection via SSL/TLS.
-     * @see ZeebeClientBuilder#usePlaintext()
+     * the default poll interval in idle mode as ISO 8601 standard formatted String e.g. PT1S for 1 second
+     * @see ZeebeWorker#idlePollInterval()
      *
-     * @return whether the connection is using plain text or SSL/TLS
+     * @return the default idle poll interval
      */
-    Optional<Boolean> getUsePlainTextConnection();
+    Optional<String> getDefaultJobIdlePollInterval();
 
     /**
-     * the default request timeout as ISO 8601 standard formatted String
-     * e.g. PT20S for a timeout of 20 seconds
-     * @see io.camunda.zeebe.client.ZeebeClientBuilder#defaultRequestTimeout(Duration)
+     * the minimum delay before retrying a failed activate request as ISO 8601 standard formatted String
+     * e.g. PT0.05S for 50 milliseconds
+     * @see io.camunda.zeebe.client.api.worker.ExponentialBackoffBuilder#minDelay(long)
      *
-     * @return the default request timeout
+     * @return the minimum backoff
      */
-    Optional<String> getDefaultRequestTimeout();
+    Optional<String> getJobBackoffMinDelay();
 
     /**
-     * the default job poll interval in milliseconds
-     * e.g. 100 for a timeout of 100 milliseconds
-     * @see io.camunda.zeebe.client.ZeebeClientBuilder#defaultJobPollInterval(Duration)
+     * the maximum delay before retrying a failed activate request as ISO 8601 standard formatted String
+     * e.g. PT5S for 5 seconds
+     * @see io.camunda.zeebe.client.api.worker.ExponentialBackoffBuilder#maxDelay(long)
      *
-     * @return the default job poll interval
+     * @return the maximum backoff
      */
-    Optional<Long> getDefaultJobPollInterval();
+    Optional<String> getJobBackoffMaxDelay();
 
     /**
-     * the default job timeout as ISO 8601 standard formatted String
-     * e.g. PT5M for a timeout of 5 minutes
-     * @see io.camunda.zeebe.client.ZeebeClientBuilder#defaultJobTimeout(Duration)
+     * the factor by which the delay grows for every further failed activate request
+     * @see io.camunda.zeebe.client.api.worker.ExponentialBackoffBuilder#backoffFactor(double)
      *
-     * @return the default job timeout
+     * @return the backoff factor
      */
-    Optional<String> getDefaultJobTimeout();
+    Optional<Double> getJobBackoffFactor();
 
     /**
-     * the default message time to live as ISO 8601 standard formatted String
-     * e.g. PT1H for a timeout of 1 hour
-     * @see io.camunda.zeebe.client.ZeebeClientBuilder#defaultMessageTimeToLive(Duration)
+     * the fraction of the delay which is randomized, so that job workers do not retry in lockstep
+     * @see io.camunda.zeebe.client.api.worker.ExponentialBackoffBuilder#jitterFactor(double)
      *
-     * @return the default message time to live
+     * @return the jitter factor
      */
-    Optional<String> getDefaultMessageTimeToLive();
+    Optional<Double> getJobBackoffJitter();
 
     /**
-     * the default job worker name
-     * @see io.camunda.zeebe.client.ZeebeClientBuilder#defaultJobWorkerName(String)
+     * the executor which runs the job handlers: "platform" for the job worker execution threads of the client or
+     * "virtual" to dispatch every activated job onto its own virtual thread
+     * @see ZeebeWorker#jobExecutor()
      *
-     * @return the default name of a worker
+     * @return the job executor
      */
-    Optional<String> getDefaultJobWorkerName();
+    Optional<String> getJobExecutor();
 
     /**
-     * the gateway address to which the client should connect
-     * @see io.camunda.zeebe.client.ZeebeClientBuilder#gatewayAddress(String)
+     * whether the number of complete commands of auto-completed jobs in flight is limited
+     * @see WindowedJobCompleter
      *
-     * @return the gateway address
+     * @return whether the completion window is enabled
      */
-    Optional<String> getGatewayAddress();
+    Optional<Boolean> getCompletionWindowEnabled();
 
     /**
-     * the number of threads used to execute workers
-     * @see io.camunda.zeebe.client.ZeebeClientBuilder#numJobWorkerExecutionThreads(int)
+     * the maximum number of complete commands sent but not yet acknowledged by the gateway
      *
-     * @return the count of job worker execution threads
+     * @return the maximum number of complete commands in flight
      */
-    Optional<Integer> getNumJobWorkerExecutionThreads();
+    Optional<Integer> getCompletionMaxInFlight();
 
     /**
-     * the interval for keep allive messages to be sent as ISO 8601 standard formatted String
-     * e.g. PT45S for 45 seconds
-     * @see io.camunda.zeebe.client.ZeebeClientBuilder#keepAlive(Duration)
+     * the maximum number of complete commands waiting for room in the window, handlers wait while the queue is full
      *
-     * @return the interval to send keep alive message
+     * @return the capacity of the completion queue
      */
-    Optional<String> getKeepAlive();
+    Optional<Integer> getCompletionQueueCapacity();
 
     /**
-     * the path to a ca certificate
-     * @see io.camunda.zeebe.client.ZeebeClientBuilder#caCertificatePath(String)
+     * whether job metrics are recorded with Micrometer if a MeterRegistry is available
+     * @see MicrometerJobMetrics
      *
-     * @return the custom ca certificate path
+     * @return whether metrics are enabled
      */
-    Optional<String> getCaCertificatePath();
+    Optional<Boolean> getMetricsEnabled();
 
     /**
-     * Indication whether to pass Micronaut's Jackson Object mapper onto the Zeebe client.
-     * @return yes or no.
+     * the maximum time to wait on shutdown for the handlers of activated jobs and their completion commands as ISO 8601
+     * standard formatted String e.g. PT30S for 30 seconds. Jobs still in flight afterwards are released to other workers.
+     * @see ZeebeWorkerProcessor#close()
+     *
+     * @return the drain timeout
+     */
+    Optional<String> getDrainTimeout();
+
+    /**
+     * the maximum number of create commands sent by the {@link ProcessInstanceStarter} but not yet answered
+     *
+     * @return the maximum number of process instance starts in flight
+     */
+    Optional<Integer> getInstanceStartMaxInFlight();
+
+    /**
+     * the maximum number of publish commands sent by the {@link MessagePublisher} but not yet answered
+     *
+     * @return the maximum number of message publishes in flight
+     */
+    Optional<Integer> getMessagePublishMaxInFlight();
+
+    /**
+     * the maximum number of retries of a pipelined command rejected because of backpressure
+     * @see CommandPipeline
+     *
+     * @return the maximum number of retries
+     */
+    Optional<Integer> getBackpressureMaxRetries();
+
+    /**
+     * the backoff before the first retry of a command rejected because of backpressure as ISO 8601 standard formatted
+     * String e.g. PT0.05S for 50 milliseconds. It is doubled for every further retry and randomized.
+     * @see CommandPipeline
+     *
+     * @return the retry backoff
+     */
+    Optional<String> getBackpressureRetryBackoff();
+
+    /**
+     * the maximum number of results and reservations of idempotent methods kept by the
+     * {@link InMemoryIdempotencyStore}, the least recently used results are evicted first
+     * @see ZeebeWorker#idempotent()
+     *
+     * @return the size of the idempotency cache
+     */
+    Optional<Integer> getIdempotencyCacheSize();
+
+    /**
+     * the time the {@link InMemoryIdempotencyStore} keeps the result or reservation of an idempotent method as ISO 8601 standard
+     * formatted String e.g. PT1H for 1 hour. It should exceed the job timeout.
+     * @see ZeebeWorker#idempotent()
+     *
+     * @return the time to live of stored results
      */
-    Optional<Boolean> getUseJacksonMapperOfMicronaut();
+    Optional<String> getIdempotencyTtl();
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The settings of the {@link ResourceDeployer} which deploys BPMN, DMN and form resources on startup.
+ */
+@ConfigurationProperties("zeebe.client.deploy")
+public interface DeploymentConfiguration {
+
+    /**
+     * the glob patterns of the resources to deploy, e.g. "classpath:bpmn/**.bpmn" or "file:/models/*.dmn". Patterns
+     * without prefix are looked up on the classpath.
+     *
+     * @return the resource patterns
+     */
+    Optional<List<String>> getResources();
+
+    /**
+     * the path of a file which stores the hashes of deployed resources, so that unchanged resources are not deployed
+     * again to the same cluster on the next startup. Without a cache file every resource is deployed and the broker
+     * detects duplicates.
+     *
+     * @return the path of the hash cache
+     */
+    Optional<String> getCacheFile();
+
+    /**
+     * the maximum time to wait for the deployments as ISO 8601 standard formatted String e.g. PT30S for 30 seconds
+     *
+     * @return the deployment timeout
+     */
+    Optional<String> getTimeout();
+
+    /**
+     * whether the startup waits for the deployment and fails if a resource could not be deployed. By default the
+     * resources are deployed in the background and failures are only logged.
+     *
+     * @return whether a failed deployment fails the startup
+     */
+    Optional<Boolean> getFailStartup();
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs a {@link JobHandler} on a separate {@link Executor} instead of the thread which received the activated job.
+ * <p>
+ * The job is handed over without blocking. The returned stage completes once the delegate handled the job, including
+ * the stage of an {@link AsyncJobHandler}, so that the {@link LimitedJobWorker} activating the jobs holds the permit of
+ * the job until then. The number of jobs handed over is thereby limited before they are activated instead of by
+ * blocking the job worker threads of the Zeebe client, which are shared by the workers of all job types.
+ */
+public class DispatchingJobHandler implements AsyncJobHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(DispatchingJobHandler.class);
+
+    protected final JobHandler delegate;
+    protected final Executor executor;
+
+    public DispatchingJobHandler(JobHandler delegate, Executor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException if the executor does not accept the job
+     */
+    @Override
+    public CompletionStage<?> handleAsync(JobClient client, ActivatedJob job) {
+        CompletableFuture<Object> handled = new CompletableFuture<>();
+        executor.execute(() -> {
+            CompletionStage<?> stage;
+            try {
+                stage = AsyncJobHandler.handleAsync(delegate, client, job);
+            } catch (Exception e) {
+                fail(client, job, e);
+                handled.completeExceptionally(e);
+                return;
+            }
+            stage.whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    handled.completeExceptionally(throwable);
+                } else {
+                    handled.complete(result);
+                }
+            });
+        });
+        return handled;
+    }
+
+    protected void fail(JobClient client, ActivatedJob job, Throwable throwable) {
+        // the Zeebe client only fails jobs for exceptions thrown on its own threads
+        log.warn("Worker for job type '{}' failed to handle job {}", job.getType(), job.getKey(), throwable);
+        client.newFailCommand(job.getKey())
+                .retries(job.getRetries() - 1)
+                .errorMessage(String.valueOf(throwable.getMessage()))
+                .send();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+/**
+ * A {@link ConcurrencyLimit} which never changes.
+ */
+public class FixedConcurrencyLimit implements ConcurrencyLimit {
+
+    protected final int limit;
+
+    protected int inFlight;
+
+    public FixedConcurrencyLimit(int limit) {
+        this.limit = Math.max(1, limit);
+    }
+
+    @Override
+    public synchronized int available() {
+        return Math.max(0, limit - inFlight);
+    }
+
+    @Override
+    public synchronized int tryAcquire(int permits) {
+        int taken = Math.max(0, Math.min(permits, limit - inFlight));
+        inFlight += taken;
+        return taken;
+    }
+
+    @Override
+    public synchronized void release(int permits) {
+        inFlight -= permits;
+    }
+
+    @Override
+    public void release(long latencyNanos, boolean dropped) {
+        release(1);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
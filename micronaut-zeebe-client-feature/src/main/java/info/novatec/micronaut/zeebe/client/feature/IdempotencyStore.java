@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Stores the results of idempotent {@link ZeebeWorker} methods, see {@link ZeebeWorker#idempotent()}. The default
+ * store is the {@link InMemoryIdempotencyStore}. Replace it with a shared store, e.g. backed by Redis or a database, so
+ * that a job activated by another instance of the application finds the result as well.
+ * <p>
+ * A key is reserved atomically before the method is invoked, e.g. with a pending entry written by a put-if-absent, so
+ * that a job activated again while the method still runs waits for its result instead of invoking the method twice.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Reserves the key for the caller unless a result is stored for it. While another caller holds the reservation the
+     * returned stage waits until that caller stored its result or released the reservation.
+     *
+     * @param key the idempotency key of the job
+     * @return a stage completed with the variables the job was completed with as JSON, or with empty once the caller
+     * holds the reservation and must invoke the method, then {@link #put(String, String)} its result or
+     * {@link #release(String)} the key
+     */
+    CompletionStage<Optional<String>> reserve(String key);
+
+    /**
+     * Stores the result of the reservation held by the caller.
+     *
+     * @param key the idempotency key of the job
+     * @param variables the variables the job is completed with as JSON
+     */
+    void put(String key, String variables);
+
+    /**
+     * Releases the reservation held by the caller without a result, e.g. because the method failed, so that the job
+     * can be retried.
+     *
+     * @param key the idempotency key of the job
+     */
+    void release(String key);
+}
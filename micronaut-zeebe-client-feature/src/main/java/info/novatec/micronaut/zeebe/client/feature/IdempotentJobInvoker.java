@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Invokes an idempotent {@link ZeebeWorker} method at most once per idempotency key, see
+ * {@link ZeebeWorker#idempotent()}.
+ * <p>
+ * The result of the method is stored before the job is completed. If the job is activated again, e.g. because it timed
+ * out or its complete command got lost during a broker failover, the stored result is returned instead of invoking the
+ * method again, so that its side effects are not repeated. The key is reserved in the store before the method is
+ * invoked, so that a job activated again while the method still runs waits for its result. Failures are not stored but
+ * release the key, so that a failed job is retried.
+ */
+public class IdempotentJobInvoker implements JobInvoker {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotentJobInvoker.class);
+
+    protected static final String NO_VARIABLES = "{}";
+
+    protected final JobInvoker delegate;
+    protected final IdempotencyStore store;
+    protected final Function<ActivatedJob, String> keyFunction;
+    protected final JsonMapper jsonMapper;
+
+    /**
+     * @param delegate the invoker of the method
+     * @param store the store of the results
+     * @param keyFunction determines the idempotency key of a job
+     * @param jsonMapper serializes the results
+     */
+    public IdempotentJobInvoker(JobInvoker delegate, IdempotencyStore store, Function<ActivatedJob, String> keyFunction, JsonMapper jsonMapper) {
+        this.delegate = delegate;
+        this.store = store;
+        this.keyFunction = keyFunction;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public Object invoke(JobClient client, ActivatedJob job) throws Exception {
+        String key = keyFunction.apply(job);
+        CompletableFuture<Optional<String>> reservation = store.reserve(key).toCompletableFuture();
+        if (reservation.isDone() && !reservation.isCompletedExceptionally()) {
+            Optional<String> stored = reservation.join();
+            return stored.isPresent() ? stored(job, key, stored.get()) : invokeReserved(client, job, key);
+        }
+        log.debug("Waiting for the reservation of key '{}' to handle job {} of type '{}'", key, job.getKey(), job.getType());
+        return reservation.thenCompose(stored -> stored.isPresent()
+                ? CompletableFuture.<Object>completedFuture(stored(job, key, stored.get()))
+                : invokeReservedAsync(client, job, key));
+    }
+
+    protected String stored(ActivatedJob job, String key, String variables) {
+        log.debug("Completing job {} of type '{}' with the stored result of key '{}'", job.getKey(), job.getType(), key);
+        return variables;
+    }
+
+    /**
+     * Invokes the method while the caller holds the reservation of the key, and stores its result or releases the key
+     * if it failed.
+     */
+    protected Object invokeReserved(JobClient client, ActivatedJob job, String key) throws Exception {
+        Object result;
+        try {
+            result = delegate.invoke(client, job);
+            if (!(result instanceof CompletionStage<?>) && !(result instanceof Publisher<?>)) {
+                return store(key, result);
+            }
+        } catch (Exception | Error e) {
+            store.release(key);
+            throw e;
+        }
+        CompletionStage<?> stage = result instanceof Publisher<?> publisher
+                ? AutoCompletingJobHandler.toCompletionStage(publisher)
+                : (CompletionStage<?>) result;
+        return stage.thenApply(variables -> store(key, variables))
+                .whenComplete((json, throwable) -> {
+                    if (throwable != null) {
+                        store.release(key);
+                    }
+                });
+    }
+
+    protected CompletionStage<Object> invokeReservedAsync(JobClient client, ActivatedJob job, String key) {
+        try {
+            Object result = invokeReserved(client, job, key);
+            if (result instanceof CompletionStage<?> stage) {
+                return stage.thenApply(json -> json);
+            }
+            return CompletableFuture.completedFuture(result);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * @return the variables as JSON, which the job is completed with
+     */
+    protected String store(String key, Object variables) {
+        String json = variables == null ? NO_VARIABLES
+                : variables instanceof String string ? string
+                : jsonMapper.toJson(variables);
+        store.put(key, json);
+        return json;
+    }
+}
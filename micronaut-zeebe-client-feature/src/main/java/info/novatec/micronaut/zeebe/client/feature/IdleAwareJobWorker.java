@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.camunda.zeebe.client.api.worker.JobWorker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link JobWorker} which switches to idle settings while its job type has no jobs, see {@link ZeebeWorker#idleAfter()}.
+ * <p>
+ * A job worker polls the gateway with activate requests which are held open until a job is available or the request
+ * times out. Once no job was activated for the idle time, the job worker is reopened with the long request timeout of
+ * the idle mode, so that an idle job type only sends an activate request every few minutes while its jobs are still
+ * activated as soon as they are available. The first activated job switches the job worker back to the busy settings.
+ */
+public class IdleAwareJobWorker implements JobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(IdleAwareJobWorker.class);
+
+    /**
+     * Opens a job worker with the busy or idle settings.
+     */
+    @FunctionalInterface
+    public interface Opener {
+
+        /**
+         * @param idle whether to open the job worker with the idle settings
+         * @param jobHandler the handler of the job worker
+         * @return the opened job worker
+         */
+        JobWorker open(boolean idle, JobHandler jobHandler);
+    }
+
+    protected final String type;
+    protected final Opener opener;
+    protected final JobHandler jobHandler;
+    protected final long idleAfterNanos;
+    protected final ScheduledExecutorService scheduler;
+
+    protected volatile long lastActivityNanos = System.nanoTime();
+    protected volatile boolean idle = false;
+    protected JobWorker current;
+    protected ScheduledFuture<?> idleCheck;
+    protected boolean closed = false;
+
+    public IdleAwareJobWorker(String type, Opener opener, JobHandler jobHandler, Duration idleAfter, ScheduledExecutorService scheduler) {
+        if (idleAfter.isNegative() || idleAfter.isZero()) {
+            throw new IllegalArgumentException("idleAfter must be positive for job type '" + type + "' but was " + idleAfter);
+        }
+        this.type = type;
+        this.opener = opener;
+        this.jobHandler = (AsyncJobHandler) (client, job) -> {
+            onActivity();
+            return AsyncJobHandler.handleAsync(jobHandler, client, job);
+        };
+        this.idleAfterNanos = idleAfter.toNanos();
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Opens the job worker with the busy settings.
+     *
+     * @return this job worker
+     */
+    public synchronized IdleAwareJobWorker open() {
+        current = opener.open(false, jobHandler);
+        long checkIntervalNanos = Math.max(1, idleAfterNanos / 2);
+        idleCheck = scheduler.scheduleWithFixedDelay(this::checkIdle, checkIntervalNanos, checkIntervalNanos, TimeUnit.NANOSECONDS);
+        return this;
+    }
+
+    protected void onActivity() {
+        lastActivityNanos = System.nanoTime();
+        if (idle) {
+            try {
+                scheduler.execute(() -> switchTo(false));
+            } catch (RejectedExecutionException e) {
+                log.debug("Not switching job worker for type '{}' to busy, shutting down", type);
+            }
+        }
+    }
+
+    protected void checkIdle() {
+        if (!idle && System.nanoTime() - lastActivityNanos >= idleAfterNanos) {
+            switchTo(true);
+        }
+    }
+
+    /**
+     * Opens the job worker with the other settings before closing the current one, so that jobs are activated all the
+     * time.
+     */
+    protected synchronized void switchTo(boolean toIdle) {
+        if (closed || idle == toIdle) {
+            return;
+        }
+        JobWorker previous = current;
+        try {
+            current = opener.open(toIdle, jobHandler);
+        } catch (RuntimeException e) {
+            log.warn("Could not reopen job worker for type '{}', keeping its settings", type, e);
+            return;
+        }
+        idle = toIdle;
+        previous.close();
+        log.debug("Job worker for type '{}' switched to {} mode", type, toIdle ? "idle" : "busy");
+    }
+
+    /**
+     * @return whether the job worker currently uses the idle settings
+     */
+    public boolean isIdle() {
+        return idle;
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return !closed && current != null && current.isOpen();
+    }
+
+    @Override
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (idleCheck != null) {
+            idleCheck.cancel(false);
+        }
+        if (current != null) {
+            current.close();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the jobs which were activated but whose handler did not return yet, to drain them on shutdown.
+ * <p>
+ * A job is in flight from the moment the job worker hands it over, see {@link #track(JobHandler)}, until the handler
+ * invocation returns or the stage of an {@link AsyncJobHandler} completes, see {@link #handleWhileTracked(JobHandler)}. In
+ * between it may wait for an executor. Jobs are tracked by identity, as jobs of different clusters may have the same key.
+ * <p>
+ * Once draining, newly handed over jobs and the jobs still in flight after the drain timeout are released: they are
+ * failed without decrementing their retries and without backoff, so that another worker can activate them at once
+ * instead of waiting for the job timeout.
+ */
+public class InFlightJobs {
+
+    private static final Logger log = LoggerFactory.getLogger(InFlightJobs.class);
+
+    protected static final String RELEASE_MESSAGE = "Released by a job worker shutting down";
+
+    protected final Map<ActivatedJob, TrackedJob> jobs = new IdentityHashMap<>();
+    protected boolean draining = false;
+
+    /**
+     * @return a handler which tracks the job before it is handed over to the delegate, or releases it when draining
+     */
+    public JobHandler track(JobHandler delegate) {
+        return (AsyncJobHandler) (client, job) -> {
+            synchronized (this) {
+                if (draining) {
+                    release(client, job);
+                    return AsyncJobHandler.COMPLETED;
+                }
+                jobs.put(job, new TrackedJob(client, job));
+            }
+            try {
+                return AsyncJobHandler.handleAsync(delegate, client, job);
+            } catch (Exception e) {
+                untrack(job);
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * @return a handler which invokes the delegate unless the job has been released and stops tracking it afterwards
+     */
+    public JobHandler handleWhileTracked(JobHandler delegate) {
+        return (AsyncJobHandler) (client, job) -> {
+            synchronized (this) {
+                if (!jobs.containsKey(job)) {
+                    log.debug("Skipping job {} of type '{}' which was released", job.getKey(), job.getType());
+                    return AsyncJobHandler.COMPLETED;
+                }
+            }
+            CompletionStage<?> stage = null;
+            try {
+                stage = AsyncJobHandler.handleAsync(delegate, client, job);
+            } finally {
+                if (stage == null || stage == AsyncJobHandler.COMPLETED) {
+                    untrack(job);
+                }
+            }
+            return stage == AsyncJobHandler.COMPLETED ? stage : stage.whenComplete((result, throwable) -> untrack(job));
+        };
+    }
+
+    /**
+     * @return the number of jobs in flight
+     */
+    public synchronized int size() {
+        return jobs.size();
+    }
+
+    /**
+     * Releases every job handed over from now on.
+     */
+    public synchronized void startDraining() {
+        draining = true;
+    }
+
+    /**
+     * Waits until no job is in flight.
+     *
+     * @param timeout the maximum time to wait
+     * @return whether all jobs finished in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized boolean awaitEmpty(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!jobs.isEmpty()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Releases all jobs still in flight. Their handlers are not interrupted, but jobs still waiting to be handled are
+     * skipped.
+     *
+     * @return a future completed once the gateway accepted all release commands
+     */
+    public CompletableFuture<Void> releaseAll() {
+        List<TrackedJob> leftovers;
+        synchronized (this) {
+            leftovers = List.copyOf(jobs.values());
+            jobs.clear();
+            notifyAll();
+        }
+        if (!leftovers.isEmpty()) {
+            log.warn("Releasing {} jobs which were not handled before shutdown", leftovers.size());
+        }
+        return CompletableFuture.allOf(leftovers.stream()
+                .map(tracked -> release(tracked.client(), tracked.job()))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    protected CompletableFuture<?> release(JobClient client, ActivatedJob job) {
+        return client.newFailCommand(job.getKey())
+                .retries(job.getRetries())
+                .retryBackoff(Duration.ZERO)
+                .errorMessage(RELEASE_MESSAGE)
+                .send()
+                .toCompletableFuture()
+                .exceptionally(throwable -> {
+                    log.warn("Could not release job {} of type '{}'", job.getKey(), job.getType(), throwable);
+                    return null;
+                });
+    }
+
+    protected synchronized void untrack(ActivatedJob job) {
+        if (jobs.remove(job) != null && jobs.isEmpty()) {
+            notifyAll();
+        }
+    }
+
+    protected record TrackedJob(JobClient client, ActivatedJob job) {
+    }
+}
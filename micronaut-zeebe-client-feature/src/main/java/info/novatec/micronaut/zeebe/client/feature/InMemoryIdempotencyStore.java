@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the results of idempotent {@link ZeebeWorker} methods in memory for
+ * {@link Configuration#getIdempotencyTtl()}. The store holds at most {@link Configuration#getIdempotencyCacheSize()}
+ * results and reservations. Once it is full, expired entries and the least recently used results are evicted first,
+ * then the least recently used reservations.
+ * <p>
+ * A reservation expires after the time to live as well, as its holder is considered stuck by then. A caller waiting for
+ * an expired or evicted reservation takes it over, so that it does not wait forever.
+ */
+@Singleton
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    public static final int DEFAULT_CACHE_SIZE = 10_000;
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    protected final int maxSize;
+    protected final long ttlNanos;
+    protected final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    public InMemoryIdempotencyStore(Configuration configuration) {
+        this(configuration.getIdempotencyCacheSize().orElse(DEFAULT_CACHE_SIZE),
+                configuration.getIdempotencyTtl().map(Duration::parse).orElse(DEFAULT_TTL));
+    }
+
+    public InMemoryIdempotencyStore(int maxSize, Duration ttl) {
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public CompletionStage<Optional<String>> reserve(String key) {
+        CompletableFuture<Void> released;
+        long remainingNanos;
+        List<CompletableFuture<Void>> evicted = List.of();
+        try {
+            synchronized (this) {
+                long now = nanoTime();
+                Entry entry = entries.get(key);
+                if (entry != null && entry.isReserved() && !isExpired(entry, now)) {
+                    released = entry.released();
+                    remainingNanos = ttlNanos - (now - entry.storedAtNanos());
+                } else if (entry != null && !isExpired(entry, now)) {
+                    return CompletableFuture.completedFuture(Optional.of(entry.variables()));
+                } else {
+                    entries.remove(key);
+                    evicted = evict(now);
+                    entries.put(key, new Entry(null, now, new CompletableFuture<>()));
+                    if (entry != null && entry.isReserved()) {
+                        evicted.add(entry.released());
+                    }
+                    return CompletableFuture.completedFuture(Optional.empty());
+                }
+            }
+        } finally {
+            evicted.forEach(future -> future.complete(null));
+        }
+        // reserve again once the result is stored, the reservation released or expired
+        return released.copy()
+                .completeOnTimeout(null, Math.max(1, remainingNanos), TimeUnit.NANOSECONDS)
+                .thenCompose(ignored -> reserve(key));
+    }
+
+    @Override
+    public void put(String key, String variables) {
+        Entry previous;
+        List<CompletableFuture<Void>> evicted;
+        synchronized (this) {
+            long now = nanoTime();
+            previous = entries.remove(key);
+            evicted = evict(now);
+            entries.put(key, new Entry(variables, now, null));
+        }
+        if (previous != null && previous.isReserved()) {
+            previous.released().complete(null);
+        }
+        evicted.forEach(future -> future.complete(null));
+    }
+
+    @Override
+    public void release(String key) {
+        Entry previous;
+        synchronized (this) {
+            previous = entries.get(key);
+            if (previous == null || !previous.isReserved()) {
+                return;
+            }
+            entries.remove(key);
+        }
+        previous.released().complete(null);
+    }
+
+    /**
+     * @return the number of stored results and reservations, including expired ones not evicted yet
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Evicts entries until there is room for one more, first the expired entries and the results in least recently
+     * used order, then the reservations.
+     *
+     * @return the futures of the evicted reservations, to be completed without holding the lock
+     */
+    protected List<CompletableFuture<Void>> evict(long now) {
+        List<CompletableFuture<Void>> evicted = new ArrayList<>();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() >= maxSize && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (!entry.isReserved() || isExpired(entry, now)) {
+                iterator.remove();
+                if (entry.isReserved()) {
+                    evicted.add(entry.released());
+                }
+            }
+        }
+        iterator = entries.values().iterator();
+        while (entries.size() >= maxSize && iterator.hasNext()) {
+            evicted.add(iterator.next().released());
+            iterator.remove();
+        }
+        return evicted;
+    }
+
+    protected boolean isExpired(Entry entry, long now) {
+        return now - entry.storedAtNanos() > ttlNanos;
+    }
+
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * A stored result, or a reservation without variables which is completed once it is released.
+     */
+    protected record Entry(@Nullable String variables, long storedAtNanos, @Nullable CompletableFuture<Void> released) {
+
+        boolean isReserved() {
+            return variables == null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Records the {@link JobTypeMetrics} of every handler invocation. The handling of an {@link AsyncJobHandler} is
+ * recorded once its stage completes.
+ */
+public class InstrumentedJobHandler implements AsyncJobHandler {
+
+    protected final JobHandler delegate;
+    protected final JobTypeMetrics metrics;
+
+    public InstrumentedJobHandler(JobHandler delegate, JobTypeMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CompletionStage<?> handleAsync(JobClient client, ActivatedJob job) throws Exception {
+        metrics.handlerStarted(job);
+        long start = System.nanoTime();
+        CompletionStage<?> stage = null;
+        try {
+            stage = AsyncJobHandler.handleAsync(delegate, client, job);
+        } finally {
+            if (stage == null) {
+                metrics.handlerFinished(System.nanoTime() - start, false);
+            } else if (stage == COMPLETED) {
+                metrics.handlerFinished(System.nanoTime() - start, true);
+            }
+        }
+        if (stage == COMPLETED) {
+            return stage;
+        }
+        return stage.whenComplete((result, throwable) -> metrics.handlerFinished(System.nanoTime() - start, throwable == null));
+    }
+}
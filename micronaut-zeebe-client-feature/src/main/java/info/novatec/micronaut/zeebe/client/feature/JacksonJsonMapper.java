@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * The {@link JsonMapper} of the clients built by the {@link ZeebeClientFactory} if
+ * {@link Configuration#getUseJacksonMapperOfMicronaut()} is enabled. It delegates to a {@link ZeebeObjectMapper} created
+ * from Micronaut's {@link ObjectMapper}, and keeps that {@link ObjectMapper}, so that the {@link JobVariableMapper}
+ * binds variables to {@link ZeebeWorker} parameters with the modules and settings of Micronaut's mapper.
+ */
+public class JacksonJsonMapper implements JsonMapper {
+
+    protected final ObjectMapper objectMapper;
+    protected final JsonMapper delegate;
+
+    public JacksonJsonMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.delegate = new ZeebeObjectMapper(objectMapper);
+    }
+
+    /**
+     * @return the mapper this mapper was created from. The {@link ZeebeObjectMapper} it delegates to may apply settings
+     * of its own, so the result does not necessarily map exactly like this mapper.
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    @Override
+    public <T> T fromJson(String json, Class<T> typeClass) {
+        return delegate.fromJson(json, typeClass);
+    }
+
+    @Override
+    public Map<String, Object> fromJsonAsMap(String json) {
+        return delegate.fromJsonAsMap(json);
+    }
+
+    @Override
+    public Map<String, String> fromJsonAsStringMap(String json) {
+        return delegate.fromJsonAsStringMap(json);
+    }
+
+    @Override
+    public String toJson(Object value) {
+        return delegate.toJson(value);
+    }
+
+    @Override
+    public String validateJson(String propertyName, String jsonInput) {
+        return delegate.validateJson(propertyName, jsonInput);
+    }
+
+    @Override
+    public String validateJson(String propertyName, InputStream jsonInput) {
+        return delegate.validateJson(propertyName, jsonInput);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the commands for jobs of auto-completed {@link ZeebeWorker} methods. Commands are sent asynchronously, so no
+ * job worker thread waits for the gateway. Failures to send a command are logged, the job will then be activated
+ * again after its timeout. Commands are counted until the gateway responded, so that {@link #flush(Duration)} can wait
+ * for them on shutdown.
+ */
+@Singleton
+public class JobCompleter {
+
+    private static final Logger log = LoggerFactory.getLogger(JobCompleter.class);
+
+    protected final JobMetrics jobMetrics;
+    protected final Object outstandingLock = new Object();
+    protected int outstanding = 0;
+
+    public JobCompleter(@Nullable JobMetrics jobMetrics) {
+        this.jobMetrics = jobMetrics;
+    }
+
+    /**
+     * Completes the job.
+     *
+     * @param variables the variables to set: a JSON string, a map or an object which is serialized by the client, or null
+     * @return the stage completed once the gateway accepted the command
+     */
+    public CompletionStage<?> complete(JobClient client, ActivatedJob job, @Nullable Object variables) {
+        return logFailure(job, "complete", send(client, job, variables));
+    }
+
+    /**
+     * Throws a BPMN error for a {@link ZeebeBpmnError}, otherwise fails the job and decrements its retries.
+     *
+     * @return the stage completed once the gateway accepted the command
+     */
+    public CompletionStage<?> fail(JobClient client, ActivatedJob job, Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        if (cause instanceof ZeebeBpmnError bpmnError) {
+            return logFailure(job, "throw-error", client.newThrowErrorCommand(job.getKey())
+                    .errorCode(bpmnError.getErrorCode())
+                    .errorMessage(String.valueOf(bpmnError.getMessage()))
+                    .variables(bpmnError.getVariables())
+                    .send());
+        }
+        log.warn("Worker for job type '{}' failed to handle job {}", job.getType(), job.getKey(), cause);
+        return logFailure(job, "fail", client.newFailCommand(job.getKey())
+                .retries(job.getRetries() - 1)
+                .errorMessage(String.valueOf(cause.getMessage()))
+                .send());
+    }
+
+    /**
+     * Waits until the gateway responded to all commands sent or buffered so far.
+     *
+     * @param timeout the maximum time to wait
+     * @return whether all commands were acknowledged in time
+     */
+    public boolean flush(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (outstandingLock) {
+            while (outstanding > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(outstandingLock, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @return the number of commands the gateway did not respond to yet
+     */
+    public int getOutstanding() {
+        synchronized (outstandingLock) {
+            return outstanding;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected CompletionStage<?> send(JobClient client, ActivatedJob job, @Nullable Object variables) {
+        CompleteJobCommandStep1 command = client.newCompleteCommand(job.getKey());
+        if (variables instanceof String json) {
+            command = command.variables(json);
+        } else if (variables instanceof Map<?, ?> map) {
+            command = command.variables((Map<String, Object>) map);
+        } else if (variables != null) {
+            command = command.variables(variables);
+        }
+        return command.send();
+    }
+
+    /**
+     * Counts the command until the gateway responded, records its metrics and logs if it failed.
+     */
+    protected CompletionStage<?> logFailure(ActivatedJob job, String command, CompletionStage<?> stage) {
+        long start = System.nanoTime();
+        synchronized (outstandingLock) {
+            outstanding++;
+        }
+        return stage.whenComplete((response, throwable) -> {
+            if (jobMetrics != null) {
+                jobMetrics.commandSent(job.getType(), command, System.nanoTime() - start, throwable == null);
+            }
+            if (throwable != null) {
+                log.error("Could not send {} command for job {} of type '{}'", command, job.getKey(), job.getType(), throwable);
+            }
+            synchronized (outstandingLock) {
+                if (--outstanding == 0) {
+                    outstandingLock.notifyAll();
+                }
+            }
+        });
+    }
+
+    protected Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
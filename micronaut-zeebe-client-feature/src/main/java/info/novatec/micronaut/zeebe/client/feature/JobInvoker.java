@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+
+/**
+ * Invokes a {@link ZeebeWorker} method for an activated job and returns its result.
+ */
+@FunctionalInterface
+public interface JobInvoker {
+
+    /**
+     * @param client the client to send commands for the job
+     * @param job the activated job
+     * @return the return value of the method or null for void methods
+     * @throws Exception if the method throws an exception
+     */
+    Object invoke(JobClient client, ActivatedJob job) throws Exception;
+}
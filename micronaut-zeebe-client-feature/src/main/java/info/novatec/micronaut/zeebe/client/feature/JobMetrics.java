@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import java.time.Duration;
+
+/**
+ * Records metrics of the jobs handled by {@link ZeebeWorker}s. Provide a bean to enable metrics, see
+ * {@link MicrometerJobMetrics}.
+ */
+public interface JobMetrics {
+
+    /**
+     * Called once for every worker when it is opened, i.e. once per job type and cluster.
+     *
+     * @param cluster the name of the cluster of the worker, empty for the default client
+     * @param type the job type of the worker
+     * @param jobTimeout the job timeout of the worker
+     * @return the metrics recorded for the worker
+     */
+    JobTypeMetrics forJobType(String cluster, String type, Duration jobTimeout);
+
+    /**
+     * Called when the gateway responded to a command sent for a job.
+     *
+     * @param type the job type
+     * @param command the command, e.g. "complete", "fail" or "throw-error"
+     * @param durationNanos the time until the gateway responded
+     * @param success whether the command was accepted
+     */
+    void commandSent(String type, String command, long durationNanos, boolean success);
+
+    /**
+     * Called when a phase of the startup finished, see {@link StartupPhases}.
+     *
+     * @param phase the phase, e.g. "client" or "workers"
+     * @param durationNanos the duration of the phase
+     */
+    default void startupPhase(String phase, long durationNanos) {
+    }
+}
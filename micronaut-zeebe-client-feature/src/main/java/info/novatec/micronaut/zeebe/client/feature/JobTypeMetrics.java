@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Metrics of a single worker. The {@link JobWorkerMetrics} callbacks are invoked by the Zeebe client when jobs are
+ * activated and when their handler returned.
+ */
+public interface JobTypeMetrics extends JobWorkerMetrics {
+
+    /**
+     * Called before the handler is invoked for a job.
+     *
+     * @param job the activated job
+     */
+    void handlerStarted(ActivatedJob job);
+
+    /**
+     * Called after the handler returned.
+     *
+     * @param durationNanos the duration of the handler invocation
+     * @param success whether the handler returned without an exception
+     */
+    void handlerFinished(long durationNanos, boolean success);
+
+    /**
+     * Called once if the worker uses an {@link AdaptiveConcurrencyLimit}.
+     *
+     * @param limit supplies the current limit
+     */
+    default void concurrencyLimit(IntSupplier limit) {
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.JsonMapper;
+import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
+import io.micronaut.core.type.Argument;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads the variables of activated jobs into the parameter types of {@link ZeebeWorker} methods. One
+ * {@link ObjectReader} is created per target type and reused for every job.
+ * <p>
+ * If {@link Configuration#getUseJacksonMapperOfMicronaut()} is enabled, Micronaut's {@link ObjectMapper} which the
+ * client's {@link JacksonJsonMapper} was created from is used, so that variables are bound with its modules and
+ * settings. Otherwise, a default {@link ObjectMapper} is used, as is the default mapper of the client. Unknown
+ * properties are ignored in any case.
+ */
+@Singleton
+public class JobVariableMapper {
+
+    private static final Logger log = LoggerFactory.getLogger(JobVariableMapper.class);
+
+    protected final JsonMapper jsonMapper;
+    protected final ObjectMapper objectMapper;
+    protected final ObjectReader treeReader;
+    protected final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    @Inject
+    public JobVariableMapper(ZeebeClient zeebeClient) {
+        this(zeebeClient.getConfiguration().getJsonMapper());
+    }
+
+    /**
+     * @param jsonMapper the mapper of the client the jobs are activated from
+     */
+    public JobVariableMapper(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        if (jsonMapper instanceof JacksonJsonMapper jacksonJsonMapper) {
+            this.objectMapper = jacksonJsonMapper.getObjectMapper();
+        } else if (jsonMapper instanceof ZeebeObjectMapper) {
+            // the default mapper of the client
+            this.objectMapper = new ObjectMapper();
+        } else {
+            // only for clients which are not built by the ZeebeClientFactory
+            log.warn("The JsonMapper {} of the client does not expose its ObjectMapper, binding variables with a default ObjectMapper instead", jsonMapper.getClass().getName());
+            this.objectMapper = new ObjectMapper();
+        }
+        this.treeReader = this.objectMapper.reader();
+    }
+
+    public JsonMapper getJsonMapper() {
+        return jsonMapper;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public ObjectReader readerFor(Argument<?> argument) {
+        return readers.computeIfAbsent(argument.asType(), type -> objectMapper
+                .readerFor(objectMapper.getTypeFactory().constructType(type))
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
+    /**
+     * Determines the names of the variables a type is read from, so that only those need to be fetched.
+     *
+     * @param argument a parameter annotated with {@link VariablesAsType}
+     * @return the names of the properties or empty if the type can take arbitrary variables, e.g. a map
+     */
+    public Optional<List<String>> getPropertyNames(Argument<?> argument) {
+        JavaType javaType = objectMapper.getTypeFactory().constructType(argument.asType());
+        if (javaType.isContainerType() || javaType.isJavaLangObject() || javaType.isPrimitive()
+            || JsonNode.class.isAssignableFrom(javaType.getRawClass())) {
+            return Optional.empty();
+        }
+        BeanDescription description = objectMapper.getDeserializationConfig().introspect(javaType);
+        if (description.findAnySetterAccessor() != null) {
+            return Optional.empty();
+        }
+        List<String> names = description.findProperties().stream()
+                .filter(BeanPropertyDefinition::couldDeserialize)
+                .map(BeanPropertyDefinition::getName)
+                .toList();
+        return names.isEmpty() ? Optional.empty() : Optional.of(names);
+    }
+
+    public JsonNode readTree(String variables) throws IOException {
+        return treeReader.readTree(variables);
+    }
+
+    /**
+     * Reads a single variable, skipping the values of the other variables instead of reading them into a tree.
+     *
+     * @param variables the variables of a job as JSON
+     * @param name the name of the variable
+     * @return the value of the variable or empty if it is missing or null
+     */
+    public Optional<JsonNode> readVariable(String variables, String name) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(variables)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (field.equals(name)) {
+                    JsonNode value = treeReader.readTree(parser);
+                    return value == null || value.isNull() ? Optional.empty() : Optional.of(value);
+                }
+                parser.skipChildren();
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.ZeebeClientBuilder;
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * Defers building a {@link ZeebeClient}, i.e. its gRPC channel, thread pools and credentials provider, until a method
+ * of the client is called for the first time.
+ * <p>
+ * Only the JSON mapper of the configuration is answered by the builder, so that the {@link JobVariableMapper} does not
+ * build the client. Any other setting may be changed by the environment variable overrides the builder applies when it
+ * builds the client, so reading it builds the client.
+ * <p>
+ * Job workers are still opened with the client, at the latest once the application started, so that a lazy client
+ * only defers the connection of applications without {@link ZeebeWorker}s, e.g. applications which only start
+ * process instances.
+ */
+public class LazyZeebeClient implements InvocationHandler {
+
+    protected final ZeebeClientBuilder builder;
+    protected final Supplier<ZeebeClient> factory;
+    protected ZeebeClient client;
+    protected boolean closed = false;
+
+    protected LazyZeebeClient(ZeebeClientBuilder builder, Supplier<ZeebeClient> factory) {
+        this.builder = builder;
+        this.factory = factory;
+    }
+
+    /**
+     * @param builder the builder of the client
+     * @param factory builds the client on first use
+     * @return a client building the actual client on first use
+     */
+    public static ZeebeClient create(ZeebeClientBuilder builder, Supplier<ZeebeClient> factory) {
+        return (ZeebeClient) Proxy.newProxyInstance(ZeebeClient.class.getClassLoader(), new Class<?>[]{ZeebeClient.class},
+                new LazyZeebeClient(builder, factory));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "LazyZeebeClient[" + (isBuilt() ? client : "not built") + "]";
+            case "getConfiguration":
+                if (!isBuilt() && builder instanceof ZeebeClientConfiguration configuration) {
+                    return createConfiguration(configuration);
+                }
+                break;
+            case "close":
+                synchronized (this) {
+                    closed = true;
+                    if (client == null) {
+                        return null;
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+        try {
+            return method.invoke(getClient(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return a configuration answering the JSON mapper by the builder and building the client for any other setting
+     */
+    protected ZeebeClientConfiguration createConfiguration(ZeebeClientConfiguration builderConfiguration) {
+        return (ZeebeClientConfiguration) Proxy.newProxyInstance(ZeebeClientConfiguration.class.getClassLoader(),
+                new Class<?>[]{ZeebeClientConfiguration.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "LazyZeebeClientConfiguration[" + (isBuilt() ? client.getConfiguration() : "not built") + "]";
+                        case "getJsonMapper":
+                            if (!isBuilt()) {
+                                return builderConfiguration.getJsonMapper();
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(getClient().getConfiguration(), args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    protected synchronized boolean isBuilt() {
+        return client != null;
+    }
+
+    protected synchronized ZeebeClient getClient() {
+        if (client == null) {
+            if (closed) {
+                throw new IllegalStateException("ZeebeClient is closed");
+            }
+            client = factory.get();
+        }
+        return client;
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1.ActivateJobsCommandStep3;
+import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.BackoffSupplier;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.camunda.zeebe.client.api.worker.JobWorker;
+import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link JobWorker} which activates no more jobs than its {@link ConcurrencyLimit} allows, for workers whose handlers
+ * run on another executor or return before their job is handled.
+ * <p>
+ * The job worker of the Zeebe client counts a job as handled once its handler returns, and it invokes the handlers of
+ * all job types of a client on the same few job worker threads. A handler waiting for a limit would block these threads
+ * for every other job type. Instead, this job worker sends an activate request for at most as many jobs as the limit
+ * has permits available, hands the activated jobs to its handler without blocking and activates more jobs once
+ * handlers finished. A saturated job type therefore stops activating jobs while other job types continue.
+ * <p>
+ * Permits are only taken once jobs are activated, so an activate request held open by the gateway takes no permits
+ * from other job workers sharing the limit, e.g. with {@link ZeebeWorker#maxConcurrentJobs()} across clusters. If
+ * another job worker took the permits in the meantime, the jobs without permit wait in a backlog of this job worker
+ * until permits are released, and no further jobs are activated until the backlog is empty.
+ * <p>
+ * With a {@link RateLimiter} an activate request asks for no more jobs than the rate limit has permits available, the
+ * activated jobs then take their permits. Once the rate is exhausted the next request is delayed until a permit is due.
+ * <p>
+ * Activate requests are long polling like those of the job worker of the Zeebe client. Job streaming is not used, as
+ * the gateway would push jobs regardless of the limit.
+ */
+public class LimitedJobWorker implements JobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(LimitedJobWorker.class);
+
+    /**
+     * The settings of the activate requests.
+     *
+     * @param type the job type
+     * @param workerName the name of the worker
+     * @param timeout the time a job is exclusively assigned to the worker
+     * @param requestTimeout the time an activate request is held open if no job is available
+     * @param pollInterval the time between activate requests which activated no jobs
+     * @param maxJobsToActivate the maximum number of jobs activated with one request
+     * @param fetchVariables the variables to fetch or null to fetch all variables
+     */
+    public record Settings(String type, String workerName, Duration timeout, Duration requestTimeout,
+                           Duration pollInterval, int maxJobsToActivate, @Nullable List<String> fetchVariables) {
+    }
+
+    protected final ZeebeClient client;
+    protected final Settings settings;
+    protected final JobHandler jobHandler;
+    protected final ConcurrencyLimit limit;
+    protected final RateLimiter rateLimiter;
+    protected final BackoffSupplier backoffSupplier;
+    protected final ScheduledExecutorService scheduler;
+    protected final JobWorkerMetrics metrics;
+    protected final Queue<ActivatedJob> backlog = new ArrayDeque<>();
+
+    protected boolean opened = false;
+    protected boolean closed = false;
+    protected boolean activating = false;
+    protected long notBeforeNanos = System.nanoTime();
+    protected long retryDelayMillis = 0;
+    protected ScheduledFuture<?> wakeUp;
+
+    /**
+     * @param client the client to activate the jobs with
+     * @param settings the settings of the activate requests
+     * @param jobHandler the handler of the activated jobs, which must not block
+     * @param limit the limit of jobs handled at the same time
+     * @param rateLimiter the limit of jobs activated per second or null
+     * @param backoffSupplier the backoff between failed activate requests
+     * @param scheduler the scheduler of delayed activate requests
+     * @param metrics the metrics of activated and handled jobs or null
+     */
+    public LimitedJobWorker(ZeebeClient client, Settings settings, JobHandler jobHandler, ConcurrencyLimit limit,
+                            @Nullable RateLimiter rateLimiter, BackoffSupplier backoffSupplier, ScheduledExecutorService scheduler, @Nullable JobWorkerMetrics metrics) {
+        this.client = client;
+        this.settings = settings;
+        this.jobHandler = jobHandler;
+        this.limit = limit;
+        this.rateLimiter = rateLimiter;
+        this.backoffSupplier = backoffSupplier;
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts to activate jobs.
+     *
+     * @return this job worker
+     */
+    public LimitedJobWorker open() {
+        synchronized (this) {
+            opened = true;
+        }
+        activateJobs();
+        return this;
+    }
+
+    /**
+     * Sends an activate request for as many jobs as the limit allows, unless a request is already in flight, jobs are
+     * waiting in the backlog or the next request is delayed. At the limit a finishing job triggers the next request.
+     * The limit is checked again after the poll interval anyway, as it may be shared with other job workers. Once the
+     * rate limit is exhausted, the next request is delayed until a permit is due.
+     */
+    protected void activateJobs() {
+        int maxJobs;
+        synchronized (this) {
+            if (!backlog.isEmpty()) {
+                // the backlog is handled once permits are released, also after the job worker was closed
+                wakeUpIn(settings.pollInterval().toNanos());
+                return;
+            }
+            if (closed || !opened || activating) {
+                return;
+            }
+            long now = System.nanoTime();
+            if (notBeforeNanos - now > 0) {
+                wakeUpIn(notBeforeNanos - now);
+                return;
+            }
+            maxJobs = Math.min(settings.maxJobsToActivate(), limit.available());
+            if (maxJobs == 0) {
+                wakeUpIn(settings.pollInterval().toNanos());
+                return;
+            }
+            if (rateLimiter != null) {
+                int rate = rateLimiter.available(now);
+                if (rate == 0) {
+                    wakeUpIn(rateLimiter.nanosUntilAvailable(now));
+                    return;
+                }
+                maxJobs = Math.min(maxJobs, rate);
+            }
+            activating = true;
+        }
+        activate(maxJobs);
+    }
+
+    protected void activate(int maxJobs) {
+        try {
+            ActivateJobsCommandStep3 command = client.newActivateJobsCommand()
+                    .jobType(settings.type())
+                    .maxJobsToActivate(maxJobs)
+                    .timeout(settings.timeout())
+                    .workerName(settings.workerName());
+            if (settings.fetchVariables() != null) {
+                command = command.fetchVariables(settings.fetchVariables());
+            }
+            command.requestTimeout(settings.requestTimeout())
+                    .send()
+                    .whenComplete(this::onActivated);
+        } catch (RuntimeException e) {
+            onActivated(null, e);
+        }
+    }
+
+    protected void onActivated(@Nullable ActivateJobsResponse response, @Nullable Throwable throwable) {
+        List<ActivatedJob> jobs = response != null ? response.getJobs() : List.of();
+        if (rateLimiter != null && !jobs.isEmpty()) {
+            rateLimiter.acquire(jobs.size(), System.nanoTime());
+        }
+        if (metrics != null && !jobs.isEmpty()) {
+            metrics.jobActivated(jobs.size());
+        }
+        synchronized (this) {
+            // the jobs are activated, so they are handled even if the job worker was closed in the meantime
+            backlog.addAll(jobs);
+            activating = false;
+            long now = System.nanoTime();
+            if (throwable != null) {
+                retryDelayMillis = backoffSupplier.supplyRetryDelay(Math.max(retryDelayMillis, settings.pollInterval().toMillis()));
+                notBeforeNanos = now + TimeUnit.MILLISECONDS.toNanos(retryDelayMillis);
+                if (!closed) {
+                    log.warn("Could not activate jobs of type '{}', retrying in {} ms", settings.type(), retryDelayMillis, throwable);
+                }
+            } else {
+                retryDelayMillis = 0;
+                notBeforeNanos = jobs.isEmpty() ? now + settings.pollInterval().toNanos() : now;
+            }
+        }
+        handleBacklog();
+        activateJobs();
+    }
+
+    /**
+     * Hands as many jobs of the backlog to the handler as the limit has permits.
+     */
+    protected void handleBacklog() {
+        List<ActivatedJob> jobs = new ArrayList<>();
+        synchronized (this) {
+            if (backlog.isEmpty()) {
+                return;
+            }
+            int permits = limit.tryAcquire(backlog.size());
+            for (int i = 0; i < permits; i++) {
+                jobs.add(backlog.remove());
+            }
+        }
+        jobs.forEach(this::handle);
+    }
+
+    protected void handle(ActivatedJob job) {
+        long start = System.nanoTime();
+        CompletionStage<?> stage;
+        try {
+            stage = AsyncJobHandler.handleAsync(jobHandler, client, job);
+        } catch (Exception e) {
+            fail(job, e);
+            stage = AsyncJobHandler.COMPLETED;
+        }
+        stage.whenComplete((result, throwable) -> handled(job, start));
+    }
+
+    protected void handled(ActivatedJob job, long start) {
+        limit.release(System.nanoTime() - start, System.currentTimeMillis() > job.getDeadline());
+        if (metrics != null) {
+            metrics.jobHandled(1);
+        }
+        handleBacklog();
+        activateJobs();
+    }
+
+    protected void fail(ActivatedJob job, Throwable throwable) {
+        log.warn("Worker for job type '{}' failed to handle job {}", job.getType(), job.getKey(), throwable);
+        client.newFailCommand(job.getKey())
+                .retries(job.getRetries() - 1)
+                .errorMessage(String.valueOf(throwable.getMessage()))
+                .send();
+    }
+
+    protected synchronized void wakeUpIn(long delayNanos) {
+        if (wakeUp != null) {
+            return;
+        }
+        try {
+            wakeUp = scheduler.schedule(() -> {
+                synchronized (this) {
+                    wakeUp = null;
+                }
+                handleBacklog();
+                activateJobs();
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Not activating jobs of type '{}', shutting down", settings.type());
+        }
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return opened && !closed;
+    }
+
+    @Override
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops to activate jobs. Jobs already activated are still handled, including those waiting in the backlog.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (wakeUp != null && backlog.isEmpty()) {
+            wakeUp.cancel(false);
+            wakeUp = null;
+        }
+    }
+}
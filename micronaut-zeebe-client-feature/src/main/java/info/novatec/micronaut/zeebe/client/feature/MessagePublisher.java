@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.command.PublishMessageCommandStep1.PublishMessageCommandStep3;
+import io.camunda.zeebe.client.api.response.PublishMessageResponse;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Publishes messages without waiting for the previous publish. Up to {@link Configuration#getMessagePublishMaxInFlight()}
+ * publish commands are in flight, further publishes block the caller until a command is answered. Publishes rejected
+ * because of backpressure are retried, see {@link CommandPipeline}.
+ * <p>
+ * The gateway routes a message to the partition of its correlation key. Messages with the same correlation key are
+ * sent one after another in the order they were published, so that they arrive at that partition in order even if one
+ * of them is retried. Messages with different correlation keys are sent concurrently.
+ * <p>
+ * The bean uses the default client. Create an instance with a named client to publish messages to another cluster.
+ */
+@Singleton
+public class MessagePublisher implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1024;
+
+    protected final ZeebeClient zeebeClient;
+    protected final CommandPipeline pipeline;
+    protected final Map<String, CompletableFuture<PublishMessageResponse>> lastPublishByCorrelationKey = new ConcurrentHashMap<>();
+
+    @Inject
+    public MessagePublisher(ZeebeClient zeebeClient, Configuration configuration) {
+        this(zeebeClient, configuration.getMessagePublishMaxInFlight().orElse(DEFAULT_MAX_IN_FLIGHT),
+                configuration.getBackpressureMaxRetries().orElse(CommandPipeline.DEFAULT_MAX_RETRIES),
+                configuration.getBackpressureRetryBackoff().map(Duration::parse).orElse(CommandPipeline.DEFAULT_RETRY_BACKOFF));
+    }
+
+    public MessagePublisher(ZeebeClient zeebeClient, int maxInFlight, int maxRetries, Duration retryBackoff) {
+        this.zeebeClient = zeebeClient;
+        this.pipeline = new CommandPipeline("zeebe-message-publish-retry", maxInFlight, maxRetries, retryBackoff);
+    }
+
+    /**
+     * Publishes a message with the default time to live.
+     *
+     * @param messageName the name of the message
+     * @param correlationKey the correlation key of the message
+     * @param variables the variables of the message: a JSON string, a map or an object which is serialized by the
+     *                  client, or null
+     * @return a future completed once the gateway accepted the message
+     */
+    public CompletableFuture<PublishMessageResponse> publish(String messageName, String correlationKey, @Nullable Object variables) {
+        return publish(messageName, correlationKey, command -> {
+            if (variables instanceof String json) {
+                return command.variables(json);
+            }
+            return variables != null ? command.variables(variables) : command;
+        });
+    }
+
+    /**
+     * Publishes a message with a publish command completed by the caller, e.g. with a message id or a time to live.
+     * The customizer is called again for every retry.
+     *
+     * @param messageName the name of the message
+     * @param correlationKey the correlation key of the message
+     * @param customizer completes the publish command
+     * @return a future completed once the gateway accepted the message
+     */
+    public CompletableFuture<PublishMessageResponse> publish(String messageName, String correlationKey, UnaryOperator<PublishMessageCommandStep3> customizer) {
+        CompletableFuture<PublishMessageResponse> result = pipeline.send(
+                () -> customizer.apply(zeebeClient.newPublishMessageCommand()
+                        .messageName(messageName)
+                        .correlationKey(correlationKey)),
+                publish -> lastPublishByCorrelationKey.put(correlationKey, publish));
+        result.whenComplete((response, throwable) -> lastPublishByCorrelationKey.remove(correlationKey, result));
+        return result;
+    }
+
+    /**
+     * @return the number of publish commands in flight
+     */
+    public int getInFlight() {
+        return pipeline.getInFlight();
+    }
+
+    /**
+     * Waits until all messages published so far are accepted or failed.
+     *
+     * @param timeout the maximum time to wait
+     * @return whether all publishes were answered in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitInFlight(Duration timeout) throws InterruptedException {
+        return pipeline.awaitInFlight(timeout);
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        pipeline.close();
+    }
+}
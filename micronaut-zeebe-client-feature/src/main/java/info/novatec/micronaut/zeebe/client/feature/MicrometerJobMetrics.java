@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Records {@link JobMetrics} with Micrometer if a {@link MeterRegistry} is available, e.g. by adding
+ * "io.micronaut.micrometer:micronaut-micrometer-core". All meters are tagged with the job type, the meters of a
+ * worker with its cluster as well, see {@link #DEFAULT_CLUSTER}.
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = "zeebe.client.cloud.metrics-enabled", notEquals = "false")
+public class MicrometerJobMetrics implements JobMetrics {
+
+    public static final String PREFIX = "zeebe.client.job.";
+    /**
+     * The cluster tag of the workers of the default client.
+     */
+    public static final String DEFAULT_CLUSTER = "default";
+
+    protected final MeterRegistry meterRegistry;
+    protected final Map<CommandTimerKey, Timer> commandTimers = new ConcurrentHashMap<>();
+
+    public MicrometerJobMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public JobTypeMetrics forJobType(String cluster, String type, Duration jobTimeout) {
+        return new MicrometerJobTypeMetrics(cluster.isEmpty() ? DEFAULT_CLUSTER : cluster, type, jobTimeout);
+    }
+
+    /**
+     * Records the command with one timer per job type, command and outcome, which is registered with the first command.
+     */
+    @Override
+    public void commandSent(String type, String command, long durationNanos, boolean success) {
+        commandTimers.computeIfAbsent(new CommandTimerKey(type, command, success), key -> Timer.builder(PREFIX + "command")
+                        .description("Time until the gateway responded to a command for a job")
+                        .tag("type", key.type())
+                        .tag("command", key.command())
+                        .tag("outcome", key.success() ? "success" : "failure")
+                        .register(meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void startupPhase(String phase, long durationNanos) {
+        Timer.builder("zeebe.client.startup")
+                .description("Duration of a phase of the startup of the Zeebe client")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    protected record CommandTimerKey(String type, String command, boolean success) {
+    }
+
+    protected class MicrometerJobTypeMetrics implements JobTypeMetrics {
+
+        protected final String cluster;
+        protected final String type;
+        protected final long jobTimeoutMillis;
+        protected final AtomicLong inFlight = new AtomicLong();
+        protected final Counter activated;
+        protected final Counter handled;
+        protected final Timer activationDelay;
+        protected final Timer handlerSuccess;
+        protected final Timer handlerFailure;
+
+        protected MicrometerJobTypeMetrics(String cluster, String type, Duration jobTimeout) {
+            this.cluster = cluster;
+            this.type = type;
+            this.jobTimeoutMillis = jobTimeout.toMillis();
+            this.activated = Counter.builder(PREFIX + "activated")
+                    .description("Number of activated jobs")
+                    .tag("type", type)
+                    .tag("cluster", cluster)
+                    .register(meterRegistry);
+            this.handled = Counter.builder(PREFIX + "handled")
+                    .description("Number of jobs whose handler returned")
+                    .tag("type", type)
+                    .tag("cluster", cluster)
+                    .register(meterRegistry);
+            Gauge.builder(PREFIX + "in.flight", inFlight, AtomicLong::get)
+                    .description("Number of activated jobs whose handler did not return yet")
+                    .tag("type", type)
+                    .tag("cluster", cluster)
+                    .register(meterRegistry);
+            this.activationDelay = Timer.builder(PREFIX + "activation.delay")
+                    .description("Time from the activation of a job until its handler started")
+                    .tag("type", type)
+                    .tag("cluster", cluster)
+                    .register(meterRegistry);
+            this.handlerSuccess = handlerTimer(type, "success");
+            this.handlerFailure = handlerTimer(type, "failure");
+        }
+
+        protected Timer handlerTimer(String type, String outcome) {
+            return Timer.builder(PREFIX + "handler")
+                    .description("Duration of the handler invocation")
+                    .tag("type", type)
+                    .tag("cluster", cluster)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void jobActivated(int count) {
+            inFlight.addAndGet(count);
+            activated.increment(count);
+        }
+
+        @Override
+        public void jobHandled(int count) {
+            inFlight.addAndGet(-count);
+            handled.increment(count);
+        }
+
+        @Override
+        public void handlerStarted(ActivatedJob job) {
+            // the deadline is set on activation, so the activation time can be derived from the timeout of the worker
+            long delay = System.currentTimeMillis() - (job.getDeadline() - jobTimeoutMillis);
+            activationDelay.record(Math.max(0, delay), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void handlerFinished(long durationNanos, boolean success) {
+            (success ? handlerSuccess : handlerFailure).record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void concurrencyLimit(IntSupplier limit) {
+            Gauge.builder(PREFIX + "concurrency.limit", limit::getAsInt)
+                    .description("Current adaptive limit of concurrently handled jobs")
+                    .tag("type", type)
+                    .tag("cluster", cluster)
+                    .register(meterRegistry);
+        }
+    }
+}
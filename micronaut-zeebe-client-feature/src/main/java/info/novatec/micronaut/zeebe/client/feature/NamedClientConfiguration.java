@@ -0,0 +1,27 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.micronaut.context.annotation.EachProperty;
+
+/**
+ * The settings of an additional, named {@link io.camunda.zeebe.client.ZeebeClient}, e.g. "zeebe.clients.eu" for a
+ * client named "eu" to work on jobs of another cluster. Workers choose their clients by name, see
+ * {@link ZeebeWorker#cluster()}.
+ */
+@EachProperty("zeebe.clients")
+public interface NamedClientConfiguration extends ClientConfiguration {
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ManagedChannel} which spreads the calls of one client across several channels, i.e. several HTTP/2
+ * connections to the gateway. A single connection limits the number of concurrent streams, e.g. long-polling job
+ * activations and job streams, and serializes all frames on one TCP connection.
+ */
+public class PooledChannel extends ManagedChannel {
+
+    public enum Selection {
+        /** Every call uses the next channel of the pool. */
+        ROUND_ROBIN,
+        /** Every call uses the channel with the fewest calls in progress. */
+        LEAST_LOADED;
+
+        public static Selection parse(String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    protected final List<ManagedChannel> channels;
+    protected final Selection selection;
+    protected final AtomicInteger[] activeCalls;
+    protected final AtomicInteger next = new AtomicInteger();
+
+    public PooledChannel(List<ManagedChannel> channels, Selection selection) {
+        if (channels.isEmpty()) {
+            throw new IllegalArgumentException("A channel pool needs at least one channel");
+        }
+        this.channels = List.copyOf(channels);
+        this.selection = selection;
+        this.activeCalls = new AtomicInteger[channels.size()];
+        for (int i = 0; i < activeCalls.length; i++) {
+            activeCalls[i] = new AtomicInteger();
+        }
+    }
+
+    @Override
+    public <Q, R> ClientCall<Q, R> newCall(MethodDescriptor<Q, R> methodDescriptor, CallOptions callOptions) {
+        int index = select();
+        return new CountingClientCall<>(channels.get(index).newCall(methodDescriptor, callOptions), activeCalls[index]);
+    }
+
+    protected int select() {
+        if (selection == Selection.LEAST_LOADED) {
+            // start with the next channel so that equally loaded channels are still used in turn
+            int start = Math.floorMod(next.getAndIncrement(), channels.size());
+            int selected = start;
+            for (int i = 1; i < channels.size(); i++) {
+                int candidate = (start + i) % channels.size();
+                if (activeCalls[candidate].get() < activeCalls[selected].get()) {
+                    selected = candidate;
+                }
+            }
+            return selected;
+        }
+        return Math.floorMod(next.getAndIncrement(), channels.size());
+    }
+
+    /**
+     * @return the number of calls in progress per channel of the pool
+     */
+    public int[] getActiveCalls() {
+        int[] result = new int[activeCalls.length];
+        for (int i = 0; i < activeCalls.length; i++) {
+            result[i] = activeCalls[i].get();
+        }
+        return result;
+    }
+
+    @Override
+    public String authority() {
+        return channels.get(0).authority();
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+        channels.forEach(ManagedChannel::shutdown);
+        return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return channels.stream().allMatch(ManagedChannel::isShutdown);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return channels.stream().allMatch(ManagedChannel::isTerminated);
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+        channels.forEach(ManagedChannel::shutdownNow);
+        return this;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ManagedChannel channel : channels) {
+            if (!channel.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ConnectivityState getState(boolean requestConnection) {
+        // the pool is ready as soon as one of its channels is ready
+        ConnectivityState result = null;
+        for (ManagedChannel channel : channels) {
+            ConnectivityState state = channel.getState(requestConnection);
+            if (state == ConnectivityState.READY) {
+                return state;
+            }
+            if (result == null) {
+                result = state;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void resetConnectBackoff() {
+        channels.forEach(ManagedChannel::resetConnectBackoff);
+    }
+
+    @Override
+    public void enterIdle() {
+        channels.forEach(ManagedChannel::enterIdle);
+    }
+
+    static class CountingClientCall<Q, R> extends SimpleForwardingClientCall<Q, R> {
+
+        private final AtomicInteger activeCalls;
+
+        CountingClientCall(ClientCall<Q, R> delegate, AtomicInteger activeCalls) {
+            super(delegate);
+            this.activeCalls = activeCalls;
+        }
+
+        @Override
+        public void start(Listener<R> responseListener, Metadata headers) {
+            activeCalls.incrementAndGet();
+            try {
+                super.start(new SimpleForwardingClientCallListener<>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        activeCalls.decrementAndGet();
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            } catch (RuntimeException e) {
+                activeCalls.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+}
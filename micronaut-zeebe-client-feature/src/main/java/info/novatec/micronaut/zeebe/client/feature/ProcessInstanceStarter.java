@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.ProcessInstanceEvent;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Starts process instances without waiting for the previous start, e.g. to start an instance for every record consumed
+ * from a message broker. The starts are pipelined: up to {@link Configuration#getInstanceStartMaxInFlight()} create
+ * commands are in flight, further starts block the caller until a command is answered. Starts rejected because of
+ * backpressure are retried, see {@link CommandPipeline}.
+ * <p>
+ * The bean uses the default client. Create an instance with a named client to start instances in another cluster.
+ */
+@Singleton
+public class ProcessInstanceStarter implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 512;
+
+    protected final ZeebeClient zeebeClient;
+    protected final CommandPipeline pipeline;
+
+    @Inject
+    public ProcessInstanceStarter(ZeebeClient zeebeClient, Configuration configuration) {
+        this(zeebeClient, configuration.getInstanceStartMaxInFlight().orElse(DEFAULT_MAX_IN_FLIGHT),
+                configuration.getBackpressureMaxRetries().orElse(CommandPipeline.DEFAULT_MAX_RETRIES),
+                configuration.getBackpressureRetryBackoff().map(Duration::parse).orElse(CommandPipeline.DEFAULT_RETRY_BACKOFF));
+    }
+
+    public ProcessInstanceStarter(ZeebeClient zeebeClient, int maxInFlight, int maxRetries, Duration retryBackoff) {
+        this.zeebeClient = zeebeClient;
+        this.pipeline = new CommandPipeline("zeebe-instance-start-retry", maxInFlight, maxRetries, retryBackoff);
+    }
+
+    /**
+     * Starts an instance of the latest version of a process.
+     *
+     * @param bpmnProcessId the BPMN process id of the process
+     * @param variables the variables of the instance: a JSON string, a map or an object which is serialized by the
+     *                  client, or null
+     * @return a future completed once the instance is created
+     */
+    public CompletableFuture<ProcessInstanceEvent> start(String bpmnProcessId, @Nullable Object variables) {
+        return start(command -> {
+            CreateProcessInstanceCommandStep1.CreateProcessInstanceCommandStep3 step = command
+                    .bpmnProcessId(bpmnProcessId)
+                    .latestVersion();
+            if (variables instanceof String json) {
+                step.variables(json);
+            } else if (variables != null) {
+                step.variables(variables);
+            }
+            return step;
+        });
+    }
+
+    /**
+     * Starts an instance with a create command built by the caller, e.g. for a specific version or with start
+     * instructions. The builder is called again for every retry.
+     *
+     * @param command builds the create command
+     * @return a future completed once the instance is created
+     */
+    public CompletableFuture<ProcessInstanceEvent> start(Function<CreateProcessInstanceCommandStep1, ? extends FinalCommandStep<ProcessInstanceEvent>> command) {
+        return pipeline.send(() -> command.apply(zeebeClient.newCreateInstanceCommand()));
+    }
+
+    /**
+     * @return the number of create commands in flight
+     */
+    public int getInFlight() {
+        return pipeline.getInFlight();
+    }
+
+    /**
+     * Waits until all instances started so far are created or failed.
+     *
+     * @param timeout the maximum time to wait
+     * @return whether all starts were answered in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitInFlight(Duration timeout) throws InterruptedException {
+        return pipeline.awaitInFlight(timeout);
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        pipeline.close();
+    }
+}
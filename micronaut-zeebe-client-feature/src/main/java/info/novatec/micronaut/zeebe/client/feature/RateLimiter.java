@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket which hands out permits at a fixed rate and allows bursts up to its capacity.
+ * <p>
+ * It never blocks: a caller asks how many permits are available, takes the permits it actually used, even more than
+ * were available, and asks when the next permit is due, e.g. to size and delay its activate requests, see
+ * {@link LimitedJobWorker}. Permits taken beyond those available are paid back by the following refills.
+ */
+public class RateLimiter {
+
+    protected final double nanosPerPermit;
+    protected final double capacity;
+
+    protected double permits;
+    protected long lastRefillNanos;
+
+    /**
+     * @param permitsPerSecond the rate at which permits are handed out
+     * @param burst the maximum number of permits handed out at once after the limiter was idle
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System.nanoTime());
+    }
+
+    protected RateLimiter(double permitsPerSecond, int burst, long nowNanos) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("The rate must be positive but was " + permitsPerSecond);
+        }
+        this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.capacity = Math.max(1, burst);
+        this.permits = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the number of permits available now
+     */
+    public synchronized int available(long nowNanos) {
+        refill(nowNanos);
+        return (int) Math.max(0, Math.floor(permits));
+    }
+
+    /**
+     * Takes the given number of permits without waiting, e.g. for the jobs an activate request returned. Permits beyond
+     * those available delay the next available permit accordingly.
+     *
+     * @param permits the number of permits used
+     * @param nowNanos the current {@link System#nanoTime()}
+     */
+    public synchronized void acquire(int permits, long nowNanos) {
+        refill(nowNanos);
+        this.permits -= permits;
+    }
+
+    /**
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the time until the next permit is available, 0 if a permit is available now
+     */
+    public synchronized long nanosUntilAvailable(long nowNanos) {
+        refill(nowNanos);
+        return permits >= 1 ? 0 : (long) Math.ceil((1 - permits) * nanosPerPermit);
+    }
+
+    protected void refill(long nowNanos) {
+        if (nowNanos - lastRefillNanos > 0) {
+            permits = Math.min(capacity, permits + (nowNanos - lastRefillNanos) / nanosPerPermit);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.DeploymentEvent;
+import io.camunda.zeebe.client.api.response.Topology;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Deploys the resources matching "zeebe.client.deploy.resources" on startup.
+ * <p>
+ * Every resource is deployed with its own command and all commands are sent at once, so that the deployment waits for
+ * a single round trip instead of one per resource, and an invalid resource does not fail the others. The deployment
+ * runs in the background and failures are logged, unless "zeebe.client.deploy.fail-startup" is set: then the startup
+ * waits for the deployment and fails if a resource could not be deployed.
+ * <p>
+ * The SHA-256 hash of every deployed resource is stored in "zeebe.client.deploy.cache-file" if set: resources whose
+ * hash did not change since the last deployment to the same cluster are skipped. The cluster is identified by the
+ * gateway address together with the partitions, the replication factor and the brokers of its topology, so a cluster
+ * which is recreated with the same topology behind the same address is not detected: delete the cache file then.
+ * Without a cache file the broker detects unchanged resources and does not create a new version.
+ */
+@Singleton
+@Requires(property = "zeebe.client.deploy.resources")
+public class ResourceDeployer {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourceDeployer.class);
+
+    public static final String CLASSPATH_PREFIX = "classpath:";
+    public static final String FILE_PREFIX = "file:";
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    protected final ZeebeClient zeebeClient;
+    protected final DeploymentConfiguration configuration;
+    protected final StartupPhases startupPhases;
+
+    public ResourceDeployer(ZeebeClient zeebeClient, DeploymentConfiguration configuration, StartupPhases startupPhases) {
+        this.zeebeClient = zeebeClient;
+        this.configuration = configuration;
+        this.startupPhases = startupPhases;
+    }
+
+    @EventListener
+    public void onStartupEvent(StartupEvent event) {
+        if (configuration.getFailStartup().orElse(false)) {
+            deploy();
+        } else {
+            deployAsync().exceptionally(e -> {
+                log.error("Could not deploy resources", e);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Deploys the resources which changed since the last deployment and waits for the deployments.
+     *
+     * @return the deployments by resource name
+     * @throws IllegalStateException if a resource could not be deployed
+     */
+    public Map<String, DeploymentEvent> deploy() {
+        try {
+            // every request of the deployment times out by itself
+            return deployAsync().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while deploying resources", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalStateException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Could not deploy resources", e.getCause());
+        }
+    }
+
+    /**
+     * Deploys the resources which changed since the last deployment without waiting for the deployments.
+     *
+     * @return the deployments by resource name, completed exceptionally with an {@link IllegalStateException} if a
+     * resource could not be deployed
+     */
+    public CompletableFuture<Map<String, DeploymentEvent>> deployAsync() {
+        long start = System.nanoTime();
+        long deadline = start + configuration.getTimeout().map(Duration::parse).orElse(DEFAULT_TIMEOUT).toNanos();
+        Map<String, String> hashes = new LinkedHashMap<>();
+        Map<String, byte[]> resources;
+        Properties cache;
+        try {
+            resources = findResources(configuration.getResources().orElse(List.of()));
+            resources.forEach((name, content) -> hashes.put(name, hash(content)));
+            cache = loadCache();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return getClusterId(deadline).thenCompose(clusterId -> {
+            Map<String, CompletableFuture<DeploymentEvent>> deployments = new LinkedHashMap<>();
+            resources.forEach((name, content) -> {
+                if (hashes.get(name).equals(cache.getProperty(getCacheKey(clusterId, name)))) {
+                    log.debug("Skipping unchanged resource {}", name);
+                    return;
+                }
+                deployments.put(name, withDeadline(zeebeClient.newDeployResourceCommand()
+                        .addResourceBytes(content, name)
+                        .send()
+                        .toCompletableFuture(), deadline));
+            });
+
+            return CompletableFuture.allOf(deployments.values().toArray(CompletableFuture[]::new)).handle((ignored, failure) -> {
+                Map<String, DeploymentEvent> deployed = collect(deployments);
+                deployed.keySet().forEach(name -> cache.setProperty(getCacheKey(clusterId, name), hashes.get(name)));
+                if (!deployed.isEmpty()) {
+                    storeCache(cache);
+                }
+                startupPhases.record(StartupPhases.DEPLOY, System.nanoTime() - start);
+                log.info("Deployed {} of {} resources in {} ms, {} unchanged", deployed.size(), resources.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), resources.size() - deployments.size());
+                if (deployed.size() < deployments.size()) {
+                    throw new IllegalStateException("Could not deploy " + (deployments.size() - deployed.size()) + " resources, see log for details");
+                }
+                return deployed;
+            });
+        });
+    }
+
+    /**
+     * @return the deployments which succeeded by resource name, logging the others
+     */
+    protected Map<String, DeploymentEvent> collect(Map<String, CompletableFuture<DeploymentEvent>> deployments) {
+        Map<String, DeploymentEvent> deployed = new LinkedHashMap<>();
+        deployments.forEach((name, deployment) -> {
+            try {
+                deployed.put(name, deployment.join());
+            } catch (CompletionException | CancellationException e) {
+                log.error("Could not deploy resource {}", name, e.getCause() != null ? e.getCause() : e);
+            }
+        });
+        return deployed;
+    }
+
+    /**
+     * @return the identity of the cluster the hashes in the cache belong to, which is only requested from the cluster
+     * if there is a cache file
+     */
+    protected CompletableFuture<String> getClusterId(long deadline) {
+        if (configuration.getCacheFile().isEmpty()) {
+            return CompletableFuture.completedFuture(zeebeClient.getConfiguration().getGatewayAddress());
+        }
+        return withDeadline(zeebeClient.newTopologyRequest().send().toCompletableFuture(), deadline).thenApply(this::getClusterId);
+    }
+
+    protected String getClusterId(Topology topology) {
+        String brokers = topology.getBrokers().stream()
+                .map(broker -> broker.getNodeId() + "@" + broker.getAddress())
+                .sorted()
+                .collect(Collectors.joining(","));
+        return zeebeClient.getConfiguration().getGatewayAddress()
+                + "[" + topology.getPartitionsCount() + "x" + topology.getReplicationFactor() + ";" + brokers + "]";
+    }
+
+    protected <T> CompletableFuture<T> withDeadline(CompletableFuture<T> future, long deadline) {
+        return future.orTimeout(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the content of the resources matching the patterns by name, e.g. "bpmn/order.bpmn"
+     */
+    protected Map<String, byte[]> findResources(List<String> patterns) {
+        Map<String, byte[]> resources = new TreeMap<>();
+        try {
+            for (String pattern : patterns) {
+                if (pattern.startsWith(FILE_PREFIX)) {
+                    findFileResources(pattern.substring(FILE_PREFIX.length()), resources);
+                } else {
+                    findClasspathResources(pattern.startsWith(CLASSPATH_PREFIX) ? pattern.substring(CLASSPATH_PREFIX.length()) : pattern, resources);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read resources to deploy", e);
+        }
+        if (resources.isEmpty()) {
+            log.warn("No resources found to deploy for {}", patterns);
+        }
+        return resources;
+    }
+
+    protected void findFileResources(String pattern, Map<String, byte[]> resources) throws IOException {
+        Path root = Paths.get(getBaseDirectory(pattern));
+        if (Files.isRegularFile(root)) {
+            resources.put(root.getFileName().toString(), Files.readAllBytes(root));
+            return;
+        }
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file) && matcher.matches(file)) {
+                    resources.put(root.relativize(file).toString().replace('\\', '/'), Files.readAllBytes(file));
+                }
+            }
+        }
+    }
+
+    protected void findClasspathResources(String pattern, Map<String, byte[]> resources) throws IOException {
+        String base = getBaseDirectory(pattern);
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        Enumeration<URL> roots = Thread.currentThread().getContextClassLoader().getResources(base);
+        while (roots.hasMoreElements()) {
+            URL root = roots.nextElement();
+            if ("file".equals(root.getProtocol())) {
+                Path directory = toPath(root);
+                try (Stream<Path> files = Files.walk(directory)) {
+                    for (Path file : (Iterable<Path>) files::iterator) {
+                        String name = base + directory.relativize(file).toString().replace('\\', '/');
+                        if (Files.isRegularFile(file) && matcher.matches(Paths.get(name))) {
+                            resources.put(name, Files.readAllBytes(file));
+                        }
+                    }
+                }
+            } else if ("jar".equals(root.getProtocol())) {
+                JarURLConnection connection = (JarURLConnection) root.openConnection();
+                connection.setUseCaches(false);
+                try (JarFile jar = connection.getJarFile()) {
+                    for (JarEntry entry : (Iterable<JarEntry>) jar.stream()::iterator) {
+                        if (!entry.isDirectory() && entry.getName().startsWith(base) && matcher.matches(Paths.get(entry.getName()))) {
+                            try (InputStream in = jar.getInputStream(entry)) {
+                                resources.put(entry.getName(), in.readAllBytes());
+                            }
+                        }
+                    }
+                }
+            } else {
+                log.warn("Cannot search {} for resources to deploy, list them without wildcards instead", root);
+            }
+        }
+    }
+
+    /**
+     * @return the directory of the pattern up to the first wildcard, with a trailing slash, or the pattern itself if it
+     * has no wildcards
+     */
+    protected String getBaseDirectory(String pattern) {
+        int wildcard = -1;
+        for (int i = 0; i < pattern.length() && wildcard < 0; i++) {
+            if ("*?[{".indexOf(pattern.charAt(i)) >= 0) {
+                wildcard = i;
+            }
+        }
+        if (wildcard < 0) {
+            return pattern;
+        }
+        return pattern.substring(0, pattern.lastIndexOf('/', wildcard) + 1);
+    }
+
+    protected Path toPath(URL url) {
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid resource location " + url, e);
+        }
+    }
+
+    protected String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    protected String getCacheKey(String clusterId, String resourceName) {
+        return clusterId + "/" + resourceName;
+    }
+
+    protected Properties loadCache() {
+        Properties cache = new Properties();
+        configuration.getCacheFile().map(Paths::get).filter(Files::isRegularFile).ifPresent(file -> {
+            try (InputStream in = Files.newInputStream(file)) {
+                cache.load(in);
+            } catch (IOException e) {
+                log.warn("Could not read deployment cache {}, deploying all resources", file, e);
+            }
+        });
+        return cache;
+    }
+
+    protected void storeCache(Properties cache) {
+        configuration.getCacheFile().map(Paths::get).ifPresent(file -> {
+            try {
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                try (OutputStream out = Files.newOutputStream(file)) {
+                    cache.store(out, "Hashes of resources deployed by " + ResourceDeployer.class.getName());
+                }
+            } catch (IOException e) {
+                log.warn("Could not write deployment cache {}", file, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records the duration of the phases of the startup to watch the cold start, e.g. of autoscaled pods:
+ * <ul>
+ *     <li>"application": from the start of the JVM until the application context started</li>
+ *     <li>"client": building the Zeebe client, which happens on first use with "lazy-connect"</li>
+ *     <li>"handlers": creating the job handlers of all {@link ZeebeWorker}s, without opening their job workers</li>
+ *     <li>"workers": opening the job workers</li>
+ *     <li>"deploy": deploying the resources of "zeebe.client.deploy.resources", see {@link ResourceDeployer}</li>
+ * </ul>
+ * The phases are logged and recorded by {@link JobMetrics#startupPhase(String, long)}.
+ */
+@Singleton
+public class StartupPhases {
+
+    public static final String APPLICATION = "application";
+    public static final String CLIENT = "client";
+    public static final String HANDLERS = "handlers";
+    public static final String WORKERS = "workers";
+    public static final String DEPLOY = "deploy";
+
+    protected final JobMetrics jobMetrics;
+    protected final Map<String, Long> phases = new LinkedHashMap<>();
+
+    public StartupPhases(@Nullable JobMetrics jobMetrics) {
+        this.jobMetrics = jobMetrics;
+    }
+
+    /**
+     * Adds the duration to the phase.
+     *
+     * @param phase the phase
+     * @param durationNanos the duration
+     */
+    public void record(String phase, long durationNanos) {
+        synchronized (this) {
+            phases.merge(phase, durationNanos, Long::sum);
+        }
+        if (jobMetrics != null) {
+            jobMetrics.startupPhase(phase, durationNanos);
+        }
+    }
+
+    /**
+     * @return the duration of the phases recorded so far
+     */
+    public synchronized Map<String, Duration> getPhases() {
+        Map<String, Duration> durations = new LinkedHashMap<>();
+        phases.forEach((phase, nanos) -> durations.put(phase, Duration.ofNanos(nanos)));
+        return durations;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return phases.entrySet().stream()
+                .map(phase -> phase.getKey() + " " + TimeUnit.NANOSECONDS.toMillis(phase.getValue()) + " ms")
+                .collect(Collectors.joining(", "));
+    }
+}
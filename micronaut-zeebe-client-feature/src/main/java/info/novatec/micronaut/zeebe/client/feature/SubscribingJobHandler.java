@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Invokes a {@link ZeebeWorker} method which returns a {@link CompletionStage} or a {@link Publisher} but completes
+ * its job itself with the {@link JobClient}, i.e. it is not auto-completed.
+ * <p>
+ * The publisher is subscribed to without blocking and the job is failed if it signals an error, in which case the
+ * returned stage completes exceptionally as well. The result of the method is ignored otherwise.
+ */
+public class SubscribingJobHandler implements AsyncJobHandler {
+
+    protected final JobInvoker invoker;
+    protected final JobCompleter jobCompleter;
+
+    public SubscribingJobHandler(JobInvoker invoker, JobCompleter jobCompleter) {
+        this.invoker = invoker;
+        this.jobCompleter = jobCompleter;
+    }
+
+    @Override
+    public CompletionStage<?> handleAsync(JobClient client, ActivatedJob job) throws Exception {
+        Object result = invoker.invoke(client, job);
+        CompletionStage<?> stage;
+        if (result instanceof CompletionStage<?> completionStage) {
+            stage = completionStage;
+        } else if (result instanceof Publisher<?> publisher) {
+            stage = AutoCompletingJobHandler.toCompletionStage(publisher);
+        } else {
+            return COMPLETED;
+        }
+        return stage.<CompletionStage<?>>handle((ignored, throwable) -> throwable != null
+                        ? jobCompleter.fail(client, job, throwable)
+                                .handle((result, failure) -> null)
+                                .thenCompose(result -> CompletableFuture.failedFuture(throwable))
+                        : COMPLETED)
+                .thenCompose(next -> next.thenApply(result -> null));
+    }
+}
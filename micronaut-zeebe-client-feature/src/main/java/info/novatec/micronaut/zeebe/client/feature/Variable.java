@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a single process variable to a parameter of a {@link ZeebeWorker} method, e.g.
+ * {@code @Variable("orderId") long orderId}. The variable is converted to the type of the parameter. A missing or
+ * null variable is bound as null, and fails the job if the parameter has a primitive type, e.g. {@code long} instead
+ * of {@code Long}.
+ */
+@Target(ElementType.PARAMETER)
+@Documented
+public @interface Variable {
+
+    /**
+     * Set the name of the process variable. Defaults to the name of the parameter.
+     *
+     * @return the name of the variable
+     */
+    String value() default "";
+}
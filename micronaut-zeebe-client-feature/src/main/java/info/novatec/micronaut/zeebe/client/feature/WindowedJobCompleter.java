@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits the complete commands of auto-completed jobs to {@link Configuration#getCompletionMaxInFlight()} commands sent
+ * but not yet acknowledged by the gateway. A command is sent at once while the window has room, otherwise it is queued
+ * and sent as soon as an earlier command is acknowledged. While the queue of
+ * {@link Configuration#getCompletionQueueCapacity()} commands is full, the caller waits for room in it, so an overloaded
+ * gateway slows down the handlers instead of receiving even more commands. Queued commands count as outstanding for
+ * {@link #flush(java.time.Duration)} from the moment they are queued.
+ * <p>
+ * The gateway has no RPC completing several jobs at once, so every command is still sent on its own.
+ */
+@Singleton
+@Replaces(JobCompleter.class)
+@Requires(property = "zeebe.client.cloud.completion-window-enabled", value = "true")
+public class WindowedJobCompleter extends JobCompleter {
+
+    private static final Logger log = LoggerFactory.getLogger(WindowedJobCompleter.class);
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    protected final Semaphore inFlight;
+    protected final BlockingQueue<PendingCompletion> queue;
+
+    public WindowedJobCompleter(Configuration configuration, @Nullable JobMetrics jobMetrics) {
+        this(configuration.getCompletionMaxInFlight().orElse(DEFAULT_MAX_IN_FLIGHT),
+                configuration.getCompletionQueueCapacity().orElse(DEFAULT_QUEUE_CAPACITY),
+                jobMetrics);
+    }
+
+    public WindowedJobCompleter(int maxInFlight, int queueCapacity, @Nullable JobMetrics jobMetrics) {
+        super(jobMetrics);
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    /**
+     * Completes the job, waits while the window and the queue are full.
+     *
+     * @param variables the variables to set: a JSON string, a map or an object which is serialized by the client, or null
+     * @return the stage completed once the gateway accepted the command
+     */
+    @Override
+    public CompletionStage<?> complete(JobClient client, ActivatedJob job, @Nullable Object variables) {
+        PendingCompletion completion = new PendingCompletion(client, job, variables, new CompletableFuture<>());
+        CompletionStage<?> result = logFailure(job, "complete", completion.result());
+        if (inFlight.tryAcquire()) {
+            send(completion);
+            return result;
+        }
+        try {
+            if (!queue.offer(completion)) {
+                log.debug("Completion queue is full, waiting to queue complete command for job {}", job.getKey());
+                queue.put(completion);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // the job is activated again after its timeout
+            completion.result().completeExceptionally(e);
+            return result;
+        }
+        // a command may have been acknowledged since the window was found full
+        sendQueued();
+        return result;
+    }
+
+    /**
+     * @return the number of queued commands waiting for room in the window
+     */
+    public int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * Sends queued commands while the window has room.
+     */
+    protected void sendQueued() {
+        while (!queue.isEmpty() && inFlight.tryAcquire()) {
+            PendingCompletion next = queue.poll();
+            if (next == null) {
+                // another thread took the command, check again whether one was queued meanwhile
+                inFlight.release();
+            } else {
+                send(next);
+            }
+        }
+    }
+
+    /**
+     * Sends a command holding a slot of the window, the slot is passed on to the next queued command once the gateway
+     * responded.
+     */
+    protected void send(PendingCompletion completion) {
+        CompletionStage<?> stage;
+        try {
+            stage = send(completion.client(), completion.job(), completion.variables());
+        } catch (RuntimeException e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        stage.whenComplete((response, throwable) -> {
+            inFlight.release();
+            sendQueued();
+            if (throwable != null) {
+                completion.result().completeExceptionally(throwable);
+            } else {
+                completion.result().complete(response);
+            }
+        });
+    }
+
+    protected record PendingCompletion(JobClient client, ActivatedJob job, @Nullable Object variables, CompletableFuture<Object> result) {
+    }
+}
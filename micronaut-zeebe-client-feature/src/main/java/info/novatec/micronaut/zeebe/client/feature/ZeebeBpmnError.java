@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Thrown by an auto-completed {@link ZeebeWorker} method to throw a BPMN error instead of failing the job.
+ *
+ * @see io.camunda.zeebe.client.api.worker.JobClient#newThrowErrorCommand(long)
+ */
+public class ZeebeBpmnError extends RuntimeException {
+
+    private final String errorCode;
+    private final Map<String, Object> variables;
+
+    public ZeebeBpmnError(String errorCode, String message) {
+        this(errorCode, message, Collections.emptyMap());
+    }
+
+    public ZeebeBpmnError(String errorCode, String message, Map<String, Object> variables) {
+        super(message);
+        this.errorCode = errorCode;
+        this.variables = variables;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+}
@@ -19,15 +19,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.zeebe.client.ZeebeClient;
 import io.camunda.zeebe.client.ZeebeClientBuilder;
 import io.camunda.zeebe.client.ZeebeClientCloudBuilderStep1.ZeebeClientCloudBuilderStep2.ZeebeClientCloudBuilderStep3.ZeebeClientCloudBuilderStep4;
-import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
+import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Primary;
 import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -43,34 +48,98 @@ public class ZeebeClientFactory {
 
     private static final Logger log = LoggerFactory.getLogger(ZeebeClientFactory.class);
 
+    protected final List<ChannelPoolInterceptor> channelPools = new CopyOnWriteArrayList<>();
+
+    @Primary
     @Singleton
-    public ZeebeClient buildClient(Configuration configuration, @Nullable ObjectMapper objectMapper) {
-        ZeebeClient zeebeClient = createZeebeClientBuilder(configuration, objectMapper).build();
+    public ZeebeClient buildClient(Configuration configuration, @Nullable ObjectMapper objectMapper, StartupPhases startupPhases) {
+        return createClient(configuration, objectMapper, startupPhases);
+    }
+
+    /**
+     * Creates a client for every named client configuration, qualified with the name of the configuration.
+     */
+    @EachBean(NamedClientConfiguration.class)
+    public ZeebeClient buildNamedClient(NamedClientConfiguration configuration, @Nullable ObjectMapper objectMapper, StartupPhases startupPhases) {
+        return createClient(configuration, objectMapper, startupPhases);
+    }
+
+    /**
+     * Shuts down the channel pools once the clients are closed.
+     */
+    @PreDestroy
+    public void close() {
+        channelPools.forEach(ChannelPoolInterceptor::close);
+    }
+
+    protected ZeebeClient createClient(ClientConfiguration configuration, @Nullable ObjectMapper objectMapper, StartupPhases startupPhases) {
+        ZeebeClientBuilder zeebeClientBuilder = createZeebeClientBuilder(configuration, objectMapper);
+        Optional<ChannelPoolInterceptor> channelPool = createChannelPool(configuration);
+        // registered first, so that it passes calls to the pool after all other interceptors
+        channelPool.ifPresent(pool -> zeebeClientBuilder.withInterceptors(pool));
+        if (configuration.getLazyConnect().orElse(false)) {
+            log.info("ZeebeClient is built on first use");
+            return LazyZeebeClient.create(zeebeClientBuilder, () -> createZeebeClient(zeebeClientBuilder, channelPool, startupPhases));
+        }
+        return createZeebeClient(zeebeClientBuilder, channelPool, startupPhases);
+    }
+
+    protected ZeebeClient createZeebeClient(ZeebeClientBuilder zeebeClientBuilder, Optional<ChannelPoolInterceptor> channelPool, StartupPhases startupPhases) {
+        long start = System.nanoTime();
+        ZeebeClient zeebeClient = zeebeClientBuilder.build();
+        channelPool.ifPresent(pool -> pool.open(zeebeClient.getConfiguration()));
+        startupPhases.record(StartupPhases.CLIENT, System.nanoTime() - start);
         log.info("ZeebeClient is configured to connect to gateway: {}", zeebeClient.getConfiguration().getGatewayAddress());
         return zeebeClient;
     }
 
-    protected ZeebeClientBuilder createZeebeClientBuilder(Configuration configuration, @Nullable ObjectMapper objectMapper) {
+    /**
+     * Creates the interceptor routing the calls of the client to a channel pool if a channel pool or a flow control
+     * window is configured. Otherwise, the client uses its own channel.
+     * <p>
+     * The client is built by its builder in any case, see {@link ChannelPoolInterceptor}. Settings the builder applies
+     * to its own channel only, if any, do not apply to the pool.
+     */
+    protected Optional<ChannelPoolInterceptor> createChannelPool(ClientConfiguration configuration) {
+        int poolSize = configuration.getChannelPoolSize().orElse(1);
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Invalid channel pool size " + poolSize + ", it must be at least 1");
+        }
+        if (poolSize == 1 && configuration.getFlowControlWindow().isEmpty()) {
+            return Optional.empty();
+        }
+        PooledChannel.Selection selection = configuration.getChannelSelection()
+                .map(PooledChannel.Selection::parse)
+                .orElse(PooledChannel.Selection.ROUND_ROBIN);
+        ChannelPoolInterceptor channelPool = new ChannelPoolInterceptor(poolSize, selection, configuration.getFlowControlWindow().orElse(null));
+        channelPools.add(channelPool);
+        log.info("ZeebeClient uses {} channel(s) with {} selection", poolSize, selection);
+        return Optional.of(channelPool);
+    }
+
+    protected ZeebeClientBuilder createZeebeClientBuilder(ClientConfiguration configuration, @Nullable ObjectMapper objectMapper) {
         ZeebeClientBuilder zeebeClientBuilder = isCloudConfigurationPresent(configuration)
                 ? createCloudClient(configuration)
                 : createDefaultClient(configuration);
 
         if (Objects.equals(TRUE, configuration.getUseJacksonMapperOfMicronaut().orElse(FALSE)) && objectMapper != null) {
-            zeebeClientBuilder.withJsonMapper(new ZeebeObjectMapper(objectMapper));
+            zeebeClientBuilder.withJsonMapper(new JacksonJsonMapper(objectMapper));
         }
         configuration.getDefaultRequestTimeout().ifPresent(timeout -> zeebeClientBuilder.defaultRequestTimeout(Duration.parse(timeout)));
         configuration.getDefaultJobPollInterval().ifPresent(duration -> zeebeClientBuilder.defaultJobPollInterval(Duration.ofMillis(duration)));
         configuration.getDefaultJobTimeout().ifPresent(timeout -> zeebeClientBuilder.defaultJobTimeout(Duration.parse(timeout)));
         configuration.getDefaultMessageTimeToLive().ifPresent(ttl -> zeebeClientBuilder.defaultMessageTimeToLive(Duration.parse(ttl)));
         configuration.getDefaultJobWorkerName().ifPresent(zeebeClientBuilder::defaultJobWorkerName);
+        configuration.getDefaultJobWorkerStreamEnabled().ifPresent(zeebeClientBuilder::defaultJobWorkerStreamEnabled);
         configuration.getGatewayAddress().ifPresent(zeebeClientBuilder::gatewayAddress);
         configuration.getNumJobWorkerExecutionThreads().ifPresent(zeebeClientBuilder::numJobWorkerExecutionThreads);
         configuration.getKeepAlive().ifPresent(keepAlive -> zeebeClientBuilder.keepAlive(Duration.parse(keepAlive)));
         configuration.getCaCertificatePath().ifPresent(zeebeClientBuilder::caCertificatePath);
+        configuration.getMaxMessageSize().ifPresent(zeebeClientBuilder::maxMessageSize);
         return zeebeClientBuilder;
     }
 
-    protected ZeebeClientBuilder createCloudClient(Configuration configuration) {
+    protected ZeebeClientBuilder createCloudClient(ClientConfiguration configuration) {
         ZeebeClientCloudBuilderStep4 builder = ZeebeClient.newCloudClientBuilder()
                 .withClusterId(configuration.getClusterId().get())
                 .withClientId(configuration.getClientId().get())
@@ -79,7 +148,7 @@ public class ZeebeClientFactory {
         return builder;
     }
 
-    protected ZeebeClientBuilder createDefaultClient(Configuration configuration) {
+    protected ZeebeClientBuilder createDefaultClient(ClientConfiguration configuration) {
         ZeebeClientBuilder zeebeClientBuilder = ZeebeClient.newClientBuilder();
         if (configuration.getUsePlainTextConnection().orElse(true)) {
             zeebeClientBuilder.usePlaintext();
@@ -88,7 +157,7 @@ public class ZeebeClientFactory {
         return zeebeClientBuilder;
     }
 
-    protected boolean isCloudConfigurationPresent(Configuration configuration) {
+    protected boolean isCloudConfigurationPresent(ClientConfiguration configuration) {
         return configuration.getClusterId().isPresent()
                && configuration.getClientId().isPresent()
                && configuration.getClientSecret().isPresent();
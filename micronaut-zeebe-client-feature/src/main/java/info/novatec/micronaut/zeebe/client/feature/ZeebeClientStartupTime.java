@@ -37,8 +37,14 @@ public class ZeebeClientStartupTime {
 
     private static final Logger log = LoggerFactory.getLogger(ZeebeClientStartupTime.class);
 
+    protected final StartupPhases startupPhases;
+
+    public ZeebeClientStartupTime(StartupPhases startupPhases) {
+        this.startupPhases = startupPhases;
+    }
+
     @EventListener
     public void onStartupEvent(StartupEvent event) {
-        log.info("Application started in {} ms", ManagementFactory.getRuntimeMXBean().getUptime());
+        log.info("Application started in {} ms ({})", ManagementFactory.getRuntimeMXBean().getUptime(), startupPhases);
     }
 }
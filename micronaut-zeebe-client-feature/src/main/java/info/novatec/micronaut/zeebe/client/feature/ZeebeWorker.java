@@ -77,4 +77,206 @@ public @interface ZeebeWorker {
      * @return poll interval
      */
     String pollInterval() default "";
+
+    /**
+     * Set whether jobs are pushed by the gateway as soon as they are available. Polling is still used as a fallback.
+     *
+     * See also {@link io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3#streamEnabled(boolean)}
+     *
+     * @return whether job streaming is enabled
+     */
+    boolean streamEnabled() default false;
+
+    /**
+     * Set the time after which the job stream is recreated, e.g "PT8H", see format definition in {@link java.time.Duration#parse(CharSequence)}
+     *
+     * See also {@link io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3#streamTimeout(Duration)}
+     *
+     * @return the stream timeout
+     */
+    String streamTimeout() default "";
+
+    /**
+     * Set the names of the clients whose clusters the worker works on, see
+     * {@link NamedClientConfiguration}, e.g. {"eu", "us"} for clients configured with "zeebe.clients.eu.*" and
+     * "zeebe.clients.us.*". A job worker is opened for every client. If not set, the default client configured with
+     * "zeebe.client.cloud.*" is used.
+     *
+     * @return the names of the clients
+     */
+    String[] cluster() default {};
+
+    /**
+     * Set the executor which runs the handler: "platform" for the job worker execution threads of the client or
+     * "virtual" to dispatch every activated job onto its own virtual thread.
+     *
+     * See also {@link Configuration#getJobExecutor()}
+     *
+     * @return the job executor
+     */
+    String jobExecutor() default "";
+
+    /**
+     * Set the name of an {@link java.util.concurrent.ExecutorService} bean which runs the handler, e.g. "io" or an
+     * executor configured via "micronaut.executors.*". At most maxJobsActive jobs of this worker are handed over to the
+     * executor at the same time, so that a slow job type cannot exhaust an executor shared with other job types.
+     * Takes precedence over {@link #executorThreads()} and {@link #jobExecutor()}.
+     *
+     * @return the name of the executor bean
+     */
+    String executor() default "";
+
+    /**
+     * Set the number of threads of a dedicated thread pool which only runs this handler. The queue of the pool is
+     * bounded by maxJobsActive. Takes precedence over {@link #jobExecutor()}.
+     *
+     * @return the number of threads of the dedicated pool
+     */
+    int executorThreads() default -1;
+
+    /**
+     * Set the variables to fetch with activated jobs. If not set, the variables are derived from the parameters
+     * annotated with {@link Variable} and {@link VariablesAsType}. All variables are fetched if the method has no such
+     * parameters or one of them can take arbitrary variables, e.g. a map.
+     *
+     * See also {@link io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3#fetchVariables(java.util.List)}
+     *
+     * @return the names of the variables to fetch
+     */
+    String[] fetchVariables() default {};
+
+    /**
+     * Set whether to fetch all variables, even if they could be derived from the parameters of the method, e.g. when
+     * the method reads additional variables from the {@link io.camunda.zeebe.client.api.response.ActivatedJob}.
+     *
+     * @return whether to fetch all variables
+     */
+    boolean fetchAllVariables() default false;
+
+    /**
+     * Set whether the job is completed with the return value of the method. The return value can be a map, an object,
+     * a JSON string, a {@link java.util.concurrent.CompletionStage} or a {@link org.reactivestreams.Publisher}.
+     * Exceptions fail the job, a {@link ZeebeBpmnError} throws a BPMN error. If not set, jobs are auto-completed if the
+     * method has no {@link io.camunda.zeebe.client.api.worker.JobClient} parameter, as a method taking the client
+     * completes its job itself, even if it returns e.g. the future of its complete command.
+     *
+     * @return whether the job is completed by the processor
+     */
+    boolean autoComplete() default false;
+
+    /**
+     * Set whether the number of concurrently handled jobs adapts to the observed latency of the handler, between
+     * {@link #minJobsActive()} and {@link #maxJobsActive()}. The limit grows while jobs are handled within
+     * {@link #targetLatency()} and shrinks if they take longer or exceed their deadline. Requires
+     * {@link #targetLatency()} and {@link #executor()}, {@link #executorThreads()}, the virtual {@link #jobExecutor()}
+     * or an asynchronous handler, as a synchronous handler on the platform threads cannot handle more jobs than there
+     * are threads.
+     *
+     * @return whether the concurrency limit is adaptive
+     */
+    boolean adaptiveJobsActive() default false;
+
+    /**
+     * Set the lower bound of the adaptive concurrency limit.
+     *
+     * @return the minimum number of concurrently handled jobs
+     */
+    int minJobsActive() default -1;
+
+    /**
+     * Set the latency up to which the adaptive concurrency limit grows, e.g "PT1S", see format definition in
+     * {@link java.time.Duration#parse(CharSequence)}. Required with {@link #adaptiveJobsActive()}, e.g. somewhat
+     * above the latency of the handler without load, as a job timeout is far above any latency worth backing off from.
+     *
+     * @return the target latency
+     */
+    String targetLatency() default "";
+
+    /**
+     * Set the maximum number of jobs per second handed to the handler, e.g. to protect a fragile downstream service.
+     * The job worker activates no more jobs than the rate allows and delays its next activate request until a job may
+     * be handled, so that no thread waits for the rate. Applies to all job workers of the method, see
+     * {@link #cluster()}.
+     *
+     * @return the maximum number of jobs per second
+     */
+    double rateLimit() default -1;
+
+    /**
+     * Set the number of jobs which may be handled at once after the worker was idle, without waiting for the
+     * {@link #rateLimit()}. Defaults to the rate limit per second, at least one job.
+     *
+     * @return the burst size of the rate limit
+     */
+    int rateLimitBurst() default -1;
+
+    /**
+     * Set the maximum number of jobs handled at the same time by all job workers of the method, see
+     * {@link #cluster()}. The job workers activate no more jobs than may be handled, so that no thread waits for
+     * the limit. Defaults {@link #maxJobsActive()} to this value.
+     *
+     * @return the maximum number of concurrently handled jobs
+     */
+    int maxConcurrentJobs() default -1;
+
+    /**
+     * Set the maximum number of jobs handed to the method at once. The method takes a {@code List<ActivatedJob>} and
+     * optionally a {@link io.camunda.zeebe.client.api.worker.JobClient} instead of single jobs, and may return a list
+     * with the outcome of every job, see {@link BatchJobHandler}. Defaults {@link #maxJobsActive()} to at least this
+     * value.
+     *
+     * @return the batch size
+     */
+    int batchSize() default -1;
+
+    /**
+     * Set the maximum time the first job of a batch waits for the batch to fill up, e.g "PT0.1S" for 100ms, see format
+     * definition in {@link java.time.Duration#parse(CharSequence)}. Defaults to 100ms.
+     *
+     * @return the batch window
+     */
+    String batchWindow() default "";
+
+    /**
+     * Set the time without activated jobs after which the job worker switches to idle mode, e.g "PT1M", see format
+     * definition in {@link java.time.Duration#parse(CharSequence)}. In idle mode activate requests are held open for
+     * {@link #idleRequestTimeout()}, so that a rarely used job type sends few requests. The first activated job switches
+     * back. See also {@link IdleAwareJobWorker}.
+     *
+     * @return the idle time
+     */
+    String idleAfter() default "";
+
+    /**
+     * Set the request timeout of activate requests in idle mode, e.g "PT5M". Defaults to 1 minute.
+     *
+     * @return the idle request timeout
+     */
+    String idleRequestTimeout() default "";
+
+    /**
+     * Set the poll interval in idle mode, e.g "PT1S". Defaults to {@link #pollInterval()}.
+     *
+     * @return the idle poll interval
+     */
+    String idlePollInterval() default "";
+
+    /**
+     * Set whether the method is invoked at most once per job. Its result is stored in the {@link IdempotencyStore}
+     * before the job is completed. If the job is activated again, e.g. because it timed out or its complete command got
+     * lost, it is completed with the stored result without invoking the method again. If it is activated again while
+     * the method still runs, it waits for the result. Requires auto-completed jobs and no {@link #batchSize()}.
+     *
+     * @return whether the method is idempotent
+     */
+    boolean idempotent() default false;
+
+    /**
+     * Set the name of a variable whose value identifies the job instead of the job key, e.g. "orderId", so that the
+     * method is also invoked only once for jobs of different process instances with the same business key within a
+     * cluster. The variable is fetched in any case.
+     *
+     * @return the name of the idempotency key variable
+     */
+    String idempotencyKey() default "";
 }
@@ -15,26 +15,65 @@
  */
 package info.novatec.micronaut.zeebe.client.feature;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import io.camunda.zeebe.client.api.JsonMapper;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.BackoffSupplier;
+import io.camunda.zeebe.client.api.worker.ExponentialBackoffBuilder;
 import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
 import io.camunda.zeebe.client.api.worker.JobWorker;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.micronaut.context.BeanContext;
+import io.micronaut.context.event.StartupEvent;
 import io.micronaut.context.processor.ExecutableMethodProcessor;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.type.Argument;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.annotation.Nullable;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 /**
  * @author Tobias Schäfer
@@ -44,14 +83,48 @@ public class ZeebeWorkerProcessor implements ExecutableMethodProcessor<ZeebeWork
 
     private static final Logger log = LoggerFactory.getLogger(ZeebeWorkerProcessor.class);
 
+    public static final String JOB_EXECUTOR_PLATFORM = "platform";
+    public static final String JOB_EXECUTOR_VIRTUAL = "virtual";
+    public static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(100);
+    public static final Duration DEFAULT_IDLE_REQUEST_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * Lambdas cannot be spun at runtime in a native image, the compile-time generated {@link ExecutableMethod}s are used.
+     */
+    protected static final boolean NATIVE_IMAGE = System.getProperty("org.graalvm.nativeimage.imagecode") != null;
+
     protected final BeanContext beanContext;
     protected final ZeebeClient zeebeClient;
+    protected final Configuration configuration;
+    protected final JobVariableMapper jobVariableMapper;
+    protected final Map<JsonMapper, JobVariableMapper> jobVariableMappers = new ConcurrentHashMap<>();
+    protected final JobCompleter jobCompleter;
+    protected final JobMetrics jobMetrics;
+    protected final StartupPhases startupPhases;
 
     protected Collection<JobWorker> jobWorkers = Collections.synchronizedCollection(new ArrayList<>());
+    protected InFlightJobs inFlightJobs = new InFlightJobs();
+    protected List<Runnable> pendingJobWorkers = new ArrayList<>();
+    protected boolean started = false;
+    protected volatile boolean closing = false;
+    protected Thread workerRegistration;
+    protected ExecutorService virtualThreadExecutor;
+    protected ExecutorService platformExecutor;
+    protected Collection<ExecutorService> dedicatedExecutors = Collections.synchronizedCollection(new ArrayList<>());
+    protected ScheduledExecutorService batchScheduler;
+    protected ScheduledExecutorService idleScheduler;
+    protected ScheduledExecutorService activationScheduler;
+    protected Optional<BackoffSupplier> backoffSupplier;
 
-    public ZeebeWorkerProcessor(BeanContext beanContext, ZeebeClient zeebeClient) {
+    public ZeebeWorkerProcessor(BeanContext beanContext, ZeebeClient zeebeClient, Configuration configuration, JobVariableMapper jobVariableMapper, JobCompleter jobCompleter, @Nullable JobMetrics jobMetrics, StartupPhases startupPhases) {
         this.beanContext = beanContext;
         this.zeebeClient = zeebeClient;
+        this.configuration = configuration;
+        this.jobVariableMapper = jobVariableMapper;
+        this.jobCompleter = jobCompleter;
+        this.jobMetrics = jobMetrics;
+        this.startupPhases = startupPhases;
     }
 
     @Override
@@ -59,43 +132,695 @@ public class ZeebeWorkerProcessor implements ExecutableMethodProcessor<ZeebeWork
         registerJobHandler(method);
     }
 
+    /**
+     * Opens the job workers registered while the application context started. They are opened in parallel on virtual
+     * threads without delaying the startup any further.
+     */
+    @EventListener
+    public synchronized void onStartupEvent(StartupEvent event) {
+        startupPhases.record(StartupPhases.APPLICATION, TimeUnit.MILLISECONDS.toNanos(ManagementFactory.getRuntimeMXBean().getUptime()));
+        started = true;
+        if (pendingJobWorkers.isEmpty()) {
+            return;
+        }
+        List<Runnable> jobWorkersToOpen = List.copyOf(pendingJobWorkers);
+        pendingJobWorkers.clear();
+        workerRegistration = Thread.ofVirtual().name("zeebe-worker-registration").start(() -> {
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                jobWorkersToOpen.forEach(executor::execute);
+            }
+            startupPhases.record(StartupPhases.WORKERS, System.nanoTime() - start);
+            log.info("Opened {} job workers in {} ms, startup phases: {}", jobWorkersToOpen.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), startupPhases);
+        });
+    }
+
+    /**
+     * Drains the job workers: stops activating jobs, waits up to the drain timeout for the handlers of jobs in flight
+     * and for their completion commands, and releases the remaining jobs so that other workers can activate them at
+     * once instead of after the job timeout.
+     */
     @PreDestroy
     @Override
     public void close() {
+        closing = true;
+        awaitWorkerRegistration();
         log.info("Closing {} job workers", jobWorkers.size());
+        inFlightJobs.startDraining();
         jobWorkers.forEach(JobWorker::close);
+        drain(configuration.getDrainTimeout().map(Duration::parse).orElse(DEFAULT_DRAIN_TIMEOUT));
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+        if (platformExecutor != null) {
+            platformExecutor.shutdown();
+        }
+        dedicatedExecutors.forEach(ExecutorService::shutdown);
+        if (batchScheduler != null) {
+            batchScheduler.shutdown();
+        }
+        if (idleScheduler != null) {
+            idleScheduler.shutdown();
+        }
+        if (activationScheduler != null) {
+            activationScheduler.shutdown();
+        }
+    }
+
+    protected void awaitWorkerRegistration() {
+        Thread registration;
+        synchronized (this) {
+            registration = workerRegistration;
+        }
+        if (registration != null) {
+            try {
+                registration.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    protected void drain(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            if (inFlightJobs.size() > 0) {
+                log.info("Waiting up to {} for {} jobs in flight", timeout, inFlightJobs.size());
+            }
+            inFlightJobs.awaitEmpty(timeout);
+            if (!jobCompleter.flush(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())))) {
+                log.warn("Not all completion commands were acknowledged before shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            inFlightJobs.releaseAll().get(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Could not release all jobs in flight", e);
+        }
     }
 
-    protected void registerJobHandler(ExecutableMethod<?, ?> method) {
+    /**
+     * Creates the job handler of the annotated method and opens its job worker: at once if the application already
+     * started or "open-workers-after-startup" is disabled, otherwise when the application started. The annotation is
+     * validated in any case while the context starts, so that invalid values fail the startup.
+     */
+    protected synchronized void registerJobHandler(ExecutableMethod<?, ?> method) {
         AnnotationValue<ZeebeWorker> annotation = method.getAnnotation(ZeebeWorker.class);
-        if (methodSignatureMatchesJobHandler(method.getArguments())) {
+        if (methodSignatureMatchesJobHandler(method.getArguments())
+            || (method.hasDeclaredAnnotation(ZeebeWorker.class) && methodSignatureHasBindableArguments(method.getArguments()))
+            || (method.hasDeclaredAnnotation(ZeebeWorker.class) && methodSignatureMatchesBatchJobHandler(method.getArguments()))) {
             Class<?> declaringType = method.getDeclaringType();
             Object bean = beanContext.getBean(declaringType);
             if (annotation != null) {
                 annotation.stringValue("type").ifPresent(type -> {
-                    JobWorkerBuilderStep1.JobWorkerBuilderStep3 jobWorkerBuilderStep3 = zeebeClient
-                            .newWorker()
-                            .jobType(type)
-                            .handler((client, job) -> ((ExecutableMethod) method).invoke(bean, client, job));
-                    annotation.stringValue("timeout").ifPresent(timeout -> {
-                        jobWorkerBuilderStep3.timeout(Duration.parse(timeout));
-                    });
-                    annotation.intValue("maxJobsActive").ifPresent(jobWorkerBuilderStep3::maxJobsActive);
-                    annotation.stringValue("requestTimeout").ifPresent(requestTimeout -> {
-                        jobWorkerBuilderStep3.requestTimeout(Duration.parse(requestTimeout));
-                    });
-                    annotation.stringValue("pollInterval").ifPresent(pollInterval -> {
-                        jobWorkerBuilderStep3.pollInterval(Duration.parse(pollInterval));
-                    });
-                    JobWorker jobWorker = jobWorkerBuilderStep3.open();
-                    jobWorkers.add(jobWorker);
-                    log.info("Zeebe client ({}#{}) subscribed to type '{}'", bean.getClass().getName(), method.getName(), type);
+                    long start = System.nanoTime();
+                    validateDurations(annotation);
+                    RateLimiter rateLimiter = createRateLimiter(type, annotation).orElse(null);
+                    Optional<ConcurrencyLimit> sharedLimit = createSharedConcurrencyLimit(type, annotation);
+                    long workersNanos = 0;
+                    boolean limited = usesLimitedJobWorker(annotation, method);
+                    if (limited && annotation.isTrue("streamEnabled")) {
+                        log.warn("Job streaming is not used for job type '{}' whose jobs are limited before they are activated", type);
+                    }
+                    for (Map.Entry<String, ZeebeClient> client : getClients(annotation).entrySet()) {
+                        JobTypeMetrics metrics = jobMetrics != null
+                                ? jobMetrics.forJobType(client.getKey(), type, getJobTimeout(client.getValue(), annotation))
+                                : null;
+                        JobHandler jobHandler = createJobHandler(client.getKey(), client.getValue(), annotation, bean, method);
+                        if (metrics != null) {
+                            jobHandler = new InstrumentedJobHandler(jobHandler, metrics);
+                        }
+                        jobHandler = inFlightJobs.handleWhileTracked(jobHandler);
+                        JobHandler workerHandler;
+                        IdleAwareJobWorker.Opener opener;
+                        if (limited) {
+                            ConcurrencyLimit workerLimit = createConcurrencyLimit(type, annotation, method, metrics);
+                            ConcurrencyLimit limit = sharedLimit.<ConcurrencyLimit>map(shared -> new CompositeConcurrencyLimit(workerLimit, shared)).orElse(workerLimit);
+                            // a batch handler only collects jobs and runs the method on the job executor itself
+                            workerHandler = inFlightJobs.track(isBatch(annotation) ? jobHandler : new DispatchingJobHandler(jobHandler, getJobExecutor(type, annotation)));
+                            opener = (idle, handler) -> createLimitedJobWorker(client.getValue(), type, annotation, method, handler, limit, rateLimiter, metrics, idle).open();
+                        } else {
+                            workerHandler = inFlightJobs.track(jobHandler);
+                            opener = (idle, handler) -> createJobWorkerBuilder(client.getValue(), type, annotation, method, handler, metrics, idle).open();
+                        }
+                        Runnable openJobWorker = () -> openJobWorker(client.getKey(), type, annotation, bean, method, opener, workerHandler);
+                        if (started || !configuration.getOpenWorkersAfterStartup().orElse(true)) {
+                            long openStart = System.nanoTime();
+                            openJobWorker.run();
+                            long openNanos = System.nanoTime() - openStart;
+                            startupPhases.record(StartupPhases.WORKERS, openNanos);
+                            workersNanos += openNanos;
+                        } else {
+                            pendingJobWorkers.add(openJobWorker);
+                        }
+                    }
+                    // the workers opened right away are recorded on their own, so that the phases do not overlap
+                    startupPhases.record(StartupPhases.HANDLERS, System.nanoTime() - start - workersNanos);
                 });
             }
         }
     }
 
+    /**
+     * @return the clients to open job workers with by cluster name, the default client with an empty name
+     */
+    protected Map<String, ZeebeClient> getClients(AnnotationValue<ZeebeWorker> annotation) {
+        String[] clusters = annotation.stringValues("cluster");
+        if (clusters.length == 0) {
+            return Map.of("", zeebeClient);
+        }
+        Map<String, ZeebeClient> clients = new LinkedHashMap<>();
+        for (String cluster : clusters) {
+            clients.put(cluster, beanContext.getBean(ZeebeClient.class, Qualifiers.byName(cluster)));
+        }
+        return clients;
+    }
+
+    protected void openJobWorker(String cluster, String type, AnnotationValue<ZeebeWorker> annotation, Object bean, ExecutableMethod<?, ?> method, IdleAwareJobWorker.Opener opener, JobHandler jobHandler) {
+        if (closing) {
+            return;
+        }
+        try {
+            Optional<Duration> idleAfter = annotation.stringValue("idleAfter").or(configuration::getDefaultJobIdleAfter).map(Duration::parse);
+            JobWorker jobWorker = idleAfter.isPresent()
+                    ? new IdleAwareJobWorker(type, opener, jobHandler, idleAfter.get(), getIdleScheduler()).open()
+                    : opener.open(false, jobHandler);
+            jobWorkers.add(jobWorker);
+            if (cluster.isEmpty()) {
+                log.info("Zeebe client ({}#{}) subscribed to type '{}'", bean.getClass().getName(), method.getName(), type);
+            } else {
+                log.info("Zeebe client ({}#{}) subscribed to type '{}' of cluster '{}'", bean.getClass().getName(), method.getName(), type, cluster);
+            }
+        } catch (RuntimeException e) {
+            if (started) {
+                log.error("Could not open job worker for type '{}' of {}#{}", type, bean.getClass().getName(), method.getName(), e);
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Creates the builder of a job worker with the settings of the annotation. In idle mode the request timeout and poll
+     * interval of the idle mode are used, see {@link IdleAwareJobWorker}.
+     */
+    protected JobWorkerBuilderStep1.JobWorkerBuilderStep3 createJobWorkerBuilder(ZeebeClient client, String type, AnnotationValue<ZeebeWorker> annotation, ExecutableMethod<?, ?> method, JobHandler jobHandler, @Nullable JobTypeMetrics metrics, boolean idle) {
+        JobWorkerBuilderStep1.JobWorkerBuilderStep3 jobWorkerBuilderStep3 = client
+                .newWorker()
+                .jobType(type)
+                .handler(jobHandler);
+        annotation.stringValue("timeout").ifPresent(timeout -> {
+            jobWorkerBuilderStep3.timeout(Duration.parse(timeout));
+        });
+        if (annotation.intValue("maxJobsActive").isPresent() || annotation.intValue("maxConcurrentJobs").isPresent() || isBatch(annotation)) {
+            jobWorkerBuilderStep3.maxJobsActive(getMaxJobsActive(annotation));
+        }
+        getRequestTimeout(annotation, idle).ifPresent(jobWorkerBuilderStep3::requestTimeout);
+        getPollInterval(annotation, idle).ifPresent(jobWorkerBuilderStep3::pollInterval);
+        annotation.booleanValue("streamEnabled").ifPresent(jobWorkerBuilderStep3::streamEnabled);
+        annotation.stringValue("streamTimeout").or(configuration::getDefaultJobWorkerStreamTimeout).ifPresent(streamTimeout -> {
+            jobWorkerBuilderStep3.streamTimeout(Duration.parse(streamTimeout));
+        });
+        getFetchVariables(annotation, method).ifPresent(jobWorkerBuilderStep3::fetchVariables);
+        getBackoffSupplier().ifPresent(jobWorkerBuilderStep3::backoffSupplier);
+        if (metrics != null) {
+            jobWorkerBuilderStep3.metrics(metrics);
+        }
+        return jobWorkerBuilderStep3;
+    }
+
+    /**
+     * Creates a job worker which activates no more jobs than the limit and the rate limit allow, see
+     * {@link LimitedJobWorker}. In idle mode the request timeout and poll interval of the idle mode are used.
+     */
+    protected LimitedJobWorker createLimitedJobWorker(ZeebeClient client, String type, AnnotationValue<ZeebeWorker> annotation, ExecutableMethod<?, ?> method, JobHandler jobHandler, ConcurrencyLimit limit, @Nullable RateLimiter rateLimiter, @Nullable JobTypeMetrics metrics, boolean idle) {
+        ZeebeClientConfiguration clientConfiguration = client.getConfiguration();
+        LimitedJobWorker.Settings settings = new LimitedJobWorker.Settings(type,
+                clientConfiguration.getDefaultJobWorkerName(),
+                annotation.stringValue("timeout").map(Duration::parse).orElse(clientConfiguration.getDefaultJobTimeout()),
+                getRequestTimeout(annotation, idle).orElse(clientConfiguration.getDefaultRequestTimeout()),
+                getPollInterval(annotation, idle).orElse(clientConfiguration.getDefaultJobPollInterval()),
+                getMaxJobsActive(annotation),
+                getFetchVariables(annotation, method).orElse(null));
+        BackoffSupplier backoff = getBackoffSupplier().orElseGet(() -> BackoffSupplier.newBackoffBuilder().build());
+        return new LimitedJobWorker(client, settings, jobHandler, limit, rateLimiter, backoff, getActivationScheduler(), metrics);
+    }
+
+    protected Optional<Duration> getRequestTimeout(AnnotationValue<ZeebeWorker> annotation, boolean idle) {
+        Optional<String> requestTimeout = idle
+                ? annotation.stringValue("idleRequestTimeout").or(configuration::getDefaultJobIdleRequestTimeout).or(() -> Optional.of(DEFAULT_IDLE_REQUEST_TIMEOUT.toString()))
+                : annotation.stringValue("requestTimeout");
+        return requestTimeout.map(Duration::parse);
+    }
+
+    protected Optional<Duration> getPollInterval(AnnotationValue<ZeebeWorker> annotation, boolean idle) {
+        Optional<String> pollInterval = idle
+                ? annotation.stringValue("idlePollInterval").or(configuration::getDefaultJobIdlePollInterval).or(() -> annotation.stringValue("pollInterval"))
+                : annotation.stringValue("pollInterval");
+        return pollInterval.map(Duration::parse);
+    }
+
+    /**
+     * @return the backoff between failed activate requests: a {@link BackoffSupplier} bean, one built from the
+     * "job-backoff-*" properties, or empty for the default backoff of the client
+     */
+    protected synchronized Optional<BackoffSupplier> getBackoffSupplier() {
+        if (backoffSupplier == null) {
+            backoffSupplier = beanContext.findBean(BackoffSupplier.class).or(this::createBackoffSupplier);
+        }
+        return backoffSupplier;
+    }
+
+    protected Optional<BackoffSupplier> createBackoffSupplier() {
+        if (configuration.getJobBackoffMinDelay().isEmpty() && configuration.getJobBackoffMaxDelay().isEmpty()
+            && configuration.getJobBackoffFactor().isEmpty() && configuration.getJobBackoffJitter().isEmpty()) {
+            return Optional.empty();
+        }
+        ExponentialBackoffBuilder builder = BackoffSupplier.newBackoffBuilder();
+        configuration.getJobBackoffMinDelay().map(Duration::parse).ifPresent(delay -> builder.minDelay(delay.toMillis()));
+        configuration.getJobBackoffMaxDelay().map(Duration::parse).ifPresent(delay -> builder.maxDelay(delay.toMillis()));
+        configuration.getJobBackoffFactor().ifPresent(builder::backoffFactor);
+        configuration.getJobBackoffJitter().ifPresent(builder::jitterFactor);
+        return Optional.of(builder.build());
+    }
+
+    protected void validateDurations(AnnotationValue<ZeebeWorker> annotation) {
+        for (String member : List.of("timeout", "requestTimeout", "pollInterval", "streamTimeout", "targetLatency", "batchWindow", "idleAfter", "idleRequestTimeout", "idlePollInterval")) {
+            annotation.stringValue(member).ifPresent(Duration::parse);
+        }
+    }
+
+    /**
+     * Creates the handler invoking the annotated method. A bean implementing {@link JobHandler} is called directly.
+     * Other methods get a typed handler bound once at startup, so that the job dispatch is a direct call without an
+     * argument array. The compile-time generated {@link ExecutableMethod} is used if such a handler cannot be created,
+     * e.g. in a native image or for methods not accessible from this package. Methods with parameters bound to process
+     * variables are invoked by a {@link BindingJobHandler}.
+     * <p>
+     * Jobs of auto-completed methods are completed with the return value by an {@link AutoCompletingJobHandler}. Methods
+     * returning a {@link java.util.concurrent.CompletionStage} or a {@link org.reactivestreams.Publisher} are handled
+     * asynchronously, see {@link AsyncJobHandler}. Methods with a batch size are invoked by a {@link BatchJobHandler}.
+     * Idempotent methods are invoked by an {@link IdempotentJobInvoker}.
+     *
+     * @param cluster the name of the cluster the jobs are activated from, empty for the default client
+     * @param client the client of the cluster
+     */
+    protected JobHandler createJobHandler(String cluster, ZeebeClient client, AnnotationValue<ZeebeWorker> annotation, Object bean, ExecutableMethod<?, ?> method) {
+        if (isIdempotent(annotation) && (isBatch(annotation) || !isAutoComplete(annotation, method))) {
+            throw new IllegalArgumentException("Method " + method.getDeclaringType().getName() + "#" + method.getMethodName()
+                    + " of job type '" + annotation.stringValue("type").orElse("") + "' is idempotent but its jobs are not auto-completed one by one");
+        }
+        if (isBatch(annotation)) {
+            return createBatchJobHandler(annotation, bean, method);
+        }
+        if (isAutoComplete(annotation, method)) {
+            JobVariableMapper clientJobVariableMapper = getJobVariableMapper(client);
+            JobInvoker invoker = createJobInvoker(bean, method, clientJobVariableMapper);
+            if (isIdempotent(annotation)) {
+                invoker = new IdempotentJobInvoker(invoker, beanContext.getBean(IdempotencyStore.class),
+                        createIdempotencyKeyFunction(cluster, annotation, clientJobVariableMapper), client.getConfiguration().getJsonMapper());
+            }
+            return new AutoCompletingJobHandler(invoker, jobCompleter);
+        }
+        if (isAsync(method)) {
+            return new SubscribingJobHandler(createJobInvoker(bean, method, getJobVariableMapper(client)), jobCompleter);
+        }
+        if (bean instanceof JobHandler jobHandler && method.getMethodName().equals("handle")) {
+            return jobHandler;
+        }
+        if (methodSignatureMatchesJobHandler(method.getArguments()) && method.getReturnType().isVoid()) {
+            Optional<JobHandler> jobHandler = createDirectJobHandler(bean, method);
+            if (jobHandler.isPresent()) {
+                return jobHandler.get();
+            }
+        }
+        JobInvoker invoker = createJobInvoker(bean, method, getJobVariableMapper(client));
+        return invoker instanceof JobHandler jobHandler ? jobHandler : invoker::invoke;
+    }
+
+    protected JobInvoker createJobInvoker(Object bean, ExecutableMethod<?, ?> method, JobVariableMapper jobVariableMapper) {
+        if (!methodSignatureMatchesJobHandler(method.getArguments())) {
+            return new BindingJobHandler(bean, method, jobVariableMapper);
+        }
+        Optional<JobInvoker> invoker = method.getReturnType().isVoid()
+                ? createDirectJobHandler(bean, method).<JobInvoker>map(jobHandler -> (client, job) -> {
+                    jobHandler.handle(client, job);
+                    return null;
+                })
+                : createDirectJobInvoker(bean, method);
+        return invoker.orElseGet(() -> {
+            @SuppressWarnings("unchecked")
+            ExecutableMethod<Object, ?> executableMethod = (ExecutableMethod<Object, ?>) method;
+            return (client, job) -> executableMethod.invoke(bean, client, job);
+        });
+    }
+
+    /**
+     * @return the mapper binding variables like the {@link JsonMapper} of the client, which differs from the default
+     * client's if the client has its own "use-jackson-mapper-of-micronaut" setting
+     */
+    protected JobVariableMapper getJobVariableMapper(ZeebeClient client) {
+        JsonMapper jsonMapper = client.getConfiguration().getJsonMapper();
+        if (jsonMapper == jobVariableMapper.getJsonMapper()) {
+            return jobVariableMapper;
+        }
+        return jobVariableMappers.computeIfAbsent(jsonMapper, JobVariableMapper::new);
+    }
+
+    protected JobHandler createBatchJobHandler(AnnotationValue<ZeebeWorker> annotation, Object bean, ExecutableMethod<?, ?> method) {
+        String type = annotation.stringValue("type").orElse("");
+        if (!methodSignatureMatchesBatchJobHandler(method.getArguments())) {
+            throw new IllegalArgumentException("Method " + method.getDeclaringType().getName() + "#" + method.getMethodName()
+                    + " of job type '" + type + "' has a batch size but does not take a List<ActivatedJob>");
+        }
+        Argument<?>[] arguments = method.getArguments();
+        @SuppressWarnings("unchecked")
+        ExecutableMethod<Object, ?> executableMethod = (ExecutableMethod<Object, ?>) method;
+        BatchJobHandler.BatchInvoker invoker = (client, jobs) -> {
+            Object[] values = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                values[i] = arguments[i].getType() == JobClient.class ? client : jobs;
+            }
+            return executableMethod.invoke(bean, values);
+        };
+        Duration batchWindow = annotation.stringValue("batchWindow").map(Duration::parse).orElse(DEFAULT_BATCH_WINDOW);
+        return new BatchJobHandler(invoker, jobCompleter, isAutoComplete(annotation, method), annotation.intValue("batchSize").getAsInt(),
+                batchWindow.toNanos(), getBatchScheduler(), getJobExecutor(type, annotation));
+    }
+
+    protected boolean isBatch(AnnotationValue<ZeebeWorker> annotation) {
+        return annotation.intValue("batchSize").isPresent();
+    }
+
+    protected boolean isIdempotent(AnnotationValue<ZeebeWorker> annotation) {
+        return annotation.isTrue("idempotent");
+    }
+
+    /**
+     * The idempotency key is the cluster, the job type and either the job key or the value of the variable set by
+     * {@link ZeebeWorker#idempotencyKey()}. Job keys are only unique within a cluster. The variable is read on its own,
+     * without reading the other variables of the job, by the same mapper which binds the variables of the method.
+     */
+    protected Function<ActivatedJob, String> createIdempotencyKeyFunction(String cluster, AnnotationValue<ZeebeWorker> annotation, JobVariableMapper jobVariableMapper) {
+        String type = annotation.stringValue("type").orElse("");
+        String prefix = cluster + ":" + type + ":";
+        Optional<String> variable = annotation.stringValue("idempotencyKey");
+        if (variable.isEmpty()) {
+            return job -> prefix + job.getKey();
+        }
+        return job -> {
+            Optional<JsonNode> value;
+            try {
+                value = jobVariableMapper.readVariable(job.getVariables(), variable.get());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException("Job " + job.getKey() + " of type '" + type + "' has no idempotency key variable '" + variable.get() + "'");
+            }
+            return prefix + (value.get().isValueNode() ? value.get().asText() : value.get().toString());
+        };
+    }
+
+    /**
+     * Jobs are auto-completed if set by {@link ZeebeWorker#autoComplete()}. Otherwise, if the method does not take a
+     * {@link JobClient} to complete the job itself. A method taking the client may return the future of its own
+     * complete command, which must not complete the job a second time.
+     */
+    protected boolean isAutoComplete(AnnotationValue<ZeebeWorker> annotation, ExecutableMethod<?, ?> method) {
+        return annotation.booleanValue("autoComplete").orElseGet(() ->
+                Arrays.stream(method.getArguments()).noneMatch(argument -> argument.getType() == JobClient.class));
+    }
+
+    /**
+     * @return whether the method returns before the job is handled, i.e. it returns a stage or a publisher
+     */
+    protected boolean isAsync(ExecutableMethod<?, ?> method) {
+        return AsyncJobHandler.isAsync(method.getReturnType().getType());
+    }
+
+    /**
+     * @return whether the job handler of the method returns before the job is handled
+     */
+    protected boolean isAsync(AnnotationValue<ZeebeWorker> annotation, ExecutableMethod<?, ?> method) {
+        return isBatch(annotation) || isAsync(method);
+    }
+
+    protected Optional<JobHandler> createDirectJobHandler(Object bean, ExecutableMethod<?, ?> method) {
+        return createDirectInvoker(bean, method, JobHandler.class, "handle", void.class);
+    }
+
+    protected Optional<JobInvoker> createDirectJobInvoker(Object bean, ExecutableMethod<?, ?> method) {
+        return createDirectInvoker(bean, method, JobInvoker.class, "invoke", Object.class);
+    }
+
+    protected <T> Optional<T> createDirectInvoker(Object bean, ExecutableMethod<?, ?> method, Class<T> invokerType, String invokerMethod, Class<?> invokerReturnType) {
+        if (NATIVE_IMAGE) {
+            return Optional.empty();
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle target = lookup.findVirtual(method.getDeclaringType(), method.getMethodName(),
+                    MethodType.methodType(method.getReturnType().getType(), method.getArgumentTypes()));
+            MethodType invokeType = MethodType.methodType(invokerReturnType, JobClient.class, ActivatedJob.class);
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, invokerMethod,
+                    MethodType.methodType(invokerType, method.getDeclaringType()), invokeType, target, invokeType);
+            return Optional.of(invokerType.cast(callSite.getTarget().invoke(bean)));
+        } catch (Throwable e) {
+            log.debug("Falling back to executable method for {}#{}", method.getDeclaringType().getName(), method.getMethodName(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Jobs are activated by a {@link LimitedJobWorker} unless the job worker of the Zeebe client enforces all limits of
+     * the annotation itself: it only limits the jobs whose synchronous handler runs on its own job worker threads by
+     * maxJobsActive.
+     */
+    protected boolean usesLimitedJobWorker(AnnotationValue<ZeebeWorker> annotation, ExecutableMethod<?, ?> method) {
+        return annotation.stringValue("executor").isPresent()
+               || annotation.intValue("executorThreads").isPresent()
+               || !getJobExecutorName(annotation).equals(JOB_EXECUTOR_PLATFORM)
+               || annotation.isTrue("adaptiveJobsActive")
+               || annotation.intValue("maxConcurrentJobs").isPresent()
+               || annotation.doubleValue("rateLimit").isPresent()
+               || isAsync(annotation, method);
+    }
+
+    protected String getJobExecutorName(AnnotationValue<ZeebeWorker> annotation) {
+        return annotation.stringValue("jobExecutor")
+                .or(configuration::getJobExecutor)
+                .orElse(JOB_EXECUTOR_PLATFORM)
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the executor running the handler of a {@link LimitedJobWorker}: the executor bean or the dedicated thread
+     * pool of the annotation, or the executor of the job executor
+     */
+    protected Executor getJobExecutor(String type, AnnotationValue<ZeebeWorker> annotation) {
+        Optional<String> executor = annotation.stringValue("executor");
+        if (executor.isPresent()) {
+            return beanContext.findBean(ExecutorService.class, Qualifiers.byName(executor.get()))
+                    .orElseThrow(() -> new IllegalArgumentException("No executor named '" + executor.get() + "' found for job type '" + type + "'"));
+        }
+        Optional<Integer> executorThreads = annotation.intValue("executorThreads");
+        if (executorThreads.isPresent()) {
+            return createDedicatedExecutor(type, executorThreads.get(), getMaxJobsActive(annotation));
+        }
+        String jobExecutor = getJobExecutorName(annotation);
+        switch (jobExecutor) {
+            case JOB_EXECUTOR_PLATFORM:
+                return getPlatformExecutor();
+            case JOB_EXECUTOR_VIRTUAL:
+                return getVirtualThreadExecutor();
+            default:
+                throw new IllegalArgumentException("Unknown job executor '" + jobExecutor + "', expected '" + JOB_EXECUTOR_PLATFORM + "' or '" + JOB_EXECUTOR_VIRTUAL + "'");
+        }
+    }
+
+    /**
+     * @return the variables to fetch for the worker or empty to fetch all variables
+     */
+    protected Optional<List<String>> getFetchVariables(AnnotationValue<ZeebeWorker> annotation, ExecutableMethod<?, ?> method) {
+        Set<String> names = new LinkedHashSet<>();
+        String[] fetchVariables = annotation.stringValues("fetchVariables");
+        if (fetchVariables.length > 0) {
+            names.addAll(Arrays.asList(fetchVariables));
+            annotation.stringValue("idempotencyKey").ifPresent(names::add);
+            return Optional.of(new ArrayList<>(names));
+        }
+        if (annotation.isTrue("fetchAllVariables")) {
+            return Optional.empty();
+        }
+        for (Argument<?> argument : method.getArguments()) {
+            if (argument.getAnnotationMetadata().hasAnnotation(Variable.class)) {
+                names.add(BindingJobHandler.getVariableName(argument));
+            } else if (argument.getAnnotationMetadata().hasAnnotation(VariablesAsType.class)) {
+                Optional<List<String>> propertyNames = jobVariableMapper.getPropertyNames(argument);
+                if (propertyNames.isEmpty()) {
+                    return Optional.empty();
+                }
+                names.addAll(propertyNames.get());
+            }
+        }
+        if (!names.isEmpty()) {
+            annotation.stringValue("idempotencyKey").ifPresent(names::add);
+        }
+        return names.isEmpty() ? Optional.empty() : Optional.of(new ArrayList<>(names));
+    }
+
+    protected synchronized ExecutorService getVirtualThreadExecutor() {
+        if (virtualThreadExecutor == null) {
+            virtualThreadExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("zeebe-job-handler-", 0).factory());
+        }
+        return virtualThreadExecutor;
+    }
+
+    /**
+     * The platform threads running the handlers of {@link LimitedJobWorker}s with the platform job executor, as many as
+     * the job worker threads of the client.
+     */
+    protected synchronized ExecutorService getPlatformExecutor() {
+        if (platformExecutor == null) {
+            platformExecutor = Executors.newFixedThreadPool(Math.max(1, configuration.getNumJobWorkerExecutionThreads().orElse(1)),
+                    Thread.ofPlatform().name("zeebe-job-handler-platform-", 0).factory());
+        }
+        return platformExecutor;
+    }
+
+    protected synchronized ScheduledExecutorService getActivationScheduler() {
+        if (activationScheduler == null) {
+            activationScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("zeebe-job-activation").daemon().factory());
+        }
+        return activationScheduler;
+    }
+
+    protected synchronized ScheduledExecutorService getIdleScheduler() {
+        if (idleScheduler == null) {
+            idleScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("zeebe-idle-check").daemon().factory());
+        }
+        return idleScheduler;
+    }
+
+    protected synchronized ScheduledExecutorService getBatchScheduler() {
+        if (batchScheduler == null) {
+            batchScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("zeebe-batch-window").daemon().factory());
+        }
+        return batchScheduler;
+    }
+
+    /**
+     * Creates a bounded thread pool used by a single job type only. The queue can hold all jobs which can be in flight
+     * for this worker, as its {@link LimitedJobWorker} activates no more than maxJobsActive jobs at a time.
+     */
+    protected ExecutorService createDedicatedExecutor(String type, int threads, int maxJobsActive) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("executorThreads must be positive for job type '" + type + "' but was " + threads);
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxJobsActive)),
+                Thread.ofPlatform().name("zeebe-" + type + "-", 0).factory());
+        executor.allowCoreThreadTimeOut(true);
+        dedicatedExecutors.add(executor);
+        return executor;
+    }
+
+    /**
+     * Creates the limit of jobs handled at the same time: maxJobsActive or an {@link AdaptiveConcurrencyLimit} bounded
+     * by maxJobsActive. Activate requests ask for no more jobs than the limit has available, see {@link LimitedJobWorker}.
+     * <p>
+     * The adaptive limit needs an executor with room for more jobs or an asynchronous handler. A synchronous handler on
+     * the platform threads is bounded by their number, so that the limit would only adapt to their queue.
+     */
+    protected ConcurrencyLimit createConcurrencyLimit(String type, AnnotationValue<ZeebeWorker> annotation, ExecutableMethod<?, ?> method, @Nullable JobTypeMetrics metrics) {
+        if (!annotation.isTrue("adaptiveJobsActive")) {
+            return new FixedConcurrencyLimit(getMaxJobsActive(annotation));
+        }
+        if (annotation.stringValue("executor").isEmpty()
+                && annotation.intValue("executorThreads").isEmpty()
+                && getJobExecutorName(annotation).equals(JOB_EXECUTOR_PLATFORM)
+                && !isAsync(annotation, method)) {
+            throw new IllegalArgumentException("adaptiveJobsActive requires an executor, executorThreads, the virtual job executor or an asynchronous handler for job type '" + type + "'");
+        }
+        Duration targetLatency = annotation.stringValue("targetLatency").map(Duration::parse)
+                .orElseThrow(() -> new IllegalArgumentException("adaptiveJobsActive requires a targetLatency for job type '" + type + "'"));
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(annotation.intValue("minJobsActive").orElse(1), getMaxJobsActive(annotation), targetLatency.toNanos());
+        if (metrics != null) {
+            metrics.concurrencyLimit(limit::getLimit);
+        }
+        return limit;
+    }
+
+    /**
+     * Creates the rate limit shared by all job workers of the annotated method if {@link ZeebeWorker#rateLimit()} is set.
+     */
+    protected Optional<RateLimiter> createRateLimiter(String type, AnnotationValue<ZeebeWorker> annotation) {
+        OptionalDouble rateLimit = annotation.doubleValue("rateLimit");
+        if (rateLimit.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!(rateLimit.getAsDouble() > 0)) {
+            throw new IllegalArgumentException("rateLimit must be positive for job type '" + type + "' but was " + rateLimit.getAsDouble());
+        }
+        int burst = annotation.intValue("rateLimitBurst").orElse((int) Math.ceil(rateLimit.getAsDouble()));
+        return Optional.of(new RateLimiter(rateLimit.getAsDouble(), burst));
+    }
+
+    /**
+     * Creates the concurrency limit shared by all job workers of the annotated method if
+     * {@link ZeebeWorker#maxConcurrentJobs()} is set.
+     */
+    protected Optional<ConcurrencyLimit> createSharedConcurrencyLimit(String type, AnnotationValue<ZeebeWorker> annotation) {
+        OptionalInt maxConcurrentJobs = annotation.intValue("maxConcurrentJobs");
+        if (maxConcurrentJobs.isEmpty()) {
+            return Optional.empty();
+        }
+        if (maxConcurrentJobs.getAsInt() < 1) {
+            throw new IllegalArgumentException("maxConcurrentJobs must be positive for job type '" + type + "' but was " + maxConcurrentJobs.getAsInt());
+        }
+        return Optional.of(new FixedConcurrencyLimit(maxConcurrentJobs.getAsInt()));
+    }
+
+    /**
+     * @return the timeout of the annotation or the default job timeout of the client of the cluster
+     */
+    protected Duration getJobTimeout(ZeebeClient client, AnnotationValue<ZeebeWorker> annotation) {
+        return annotation.stringValue("timeout").map(Duration::parse).orElse(client.getConfiguration().getDefaultJobTimeout());
+    }
+
+    protected int getMaxJobsActive(AnnotationValue<ZeebeWorker> annotation) {
+        OptionalInt maxJobsActive = annotation.intValue("maxJobsActive");
+        if (maxJobsActive.isPresent()) {
+            return maxJobsActive.getAsInt();
+        }
+        int defaultMaxJobsActive = zeebeClient.getConfiguration().getDefaultJobWorkerMaxJobsActive();
+        // a batch can only fill up if the job worker may activate its jobs at once
+        return annotation.intValue("maxConcurrentJobs").orElse(Math.max(defaultMaxJobsActive, annotation.intValue("batchSize").orElse(0)));
+    }
+
     protected boolean methodSignatureMatchesJobHandler(Argument<?>[] arguments) {
         return arguments.length == 2 && arguments[0].isAssignableFrom(JobClient.class) && arguments[1].isAssignableFrom(ActivatedJob.class);
     }
+
+    /**
+     * @return whether the method takes a {@code List<ActivatedJob>} and optionally a {@link JobClient}
+     */
+    protected boolean methodSignatureMatchesBatchJobHandler(Argument<?>[] arguments) {
+        long jobLists = Arrays.stream(arguments)
+                .filter(argument -> argument.getType() == List.class
+                                    && argument.getFirstTypeVariable().map(Argument::getType).orElse(null) == ActivatedJob.class)
+                .count();
+        long jobClients = Arrays.stream(arguments).filter(argument -> argument.getType() == JobClient.class).count();
+        return jobLists == 1 && jobLists + jobClients == arguments.length;
+    }
+
+    protected boolean methodSignatureHasBindableArguments(Argument<?>[] arguments) {
+        return arguments.length > 0 && Arrays.stream(arguments).allMatch(BindingJobHandler::isBindable);
+    }
 }
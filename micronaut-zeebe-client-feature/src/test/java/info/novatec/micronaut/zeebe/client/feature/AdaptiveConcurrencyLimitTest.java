@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long TARGET = 100;
+    private static final long FAST = 10;
+    private static final long SLOW = 1_000;
+
+    @Test
+    void shouldStartAtTheMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 10, TARGET);
+
+        assertThat(limit.getLimit()).isEqualTo(2);
+        assertThat(limit.tryAcquire(5)).isEqualTo(2);
+        assertThat(limit.tryAcquire(1)).isZero();
+    }
+
+    @Test
+    void shouldIncreaseByOnePerFastJob() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 10, TARGET);
+        limit.tryAcquire(2);
+
+        limit.release(FAST, false);
+        assertThat(limit.getLimit()).isEqualTo(3);
+        limit.release(FAST, false);
+        // only one of three permits was in use
+        assertThat(limit.getLimit()).isEqualTo(3);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldDecreaseByTenPercentPerSlowJob() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 100, TARGET);
+        growTo(limit, 50);
+
+        limit.tryAcquire(2);
+        limit.release(SLOW, false);
+        assertThat(limit.getLimit()).isEqualTo(45);
+        limit.release(FAST, true);
+        // dropped jobs count as slow, whatever their latency
+        assertThat(limit.getLimit()).isEqualTo(40);
+    }
+
+    @Test
+    void shouldStayWithinMinimumAndMaximum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3, 8, TARGET);
+
+        growTo(limit, 20);
+        assertThat(limit.getLimit()).isEqualTo(8);
+
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire(1);
+            limit.release(SLOW, false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(3);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldReturnUnusedPermitsWithoutAdapting() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 8, TARGET);
+
+        assertThat(limit.tryAcquire(4)).isEqualTo(4);
+        limit.release(3);
+
+        assertThat(limit.getLimit()).isEqualTo(4);
+        assertThat(limit.getInFlight()).isEqualTo(1);
+        assertThat(limit.tryAcquire(4)).isEqualTo(3);
+    }
+
+    /**
+     * Handles fast jobs with the whole limit in use until the limit reaches the given value or its maximum.
+     */
+    private static void growTo(AdaptiveConcurrencyLimit limit, int target) {
+        for (int i = 0; i < target * 2 && limit.getLimit() < target; i++) {
+            int permits = limit.tryAcquire(Integer.MAX_VALUE);
+            limit.release(FAST, false);
+            limit.release(permits - 1);
+        }
+    }
+}
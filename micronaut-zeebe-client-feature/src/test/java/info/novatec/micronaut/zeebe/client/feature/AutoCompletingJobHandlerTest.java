@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import info.novatec.micronaut.zeebe.client.testing.RecordedCommand;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class AutoCompletingJobHandlerTest {
+
+    private final List<Boolean> outcomes = new CopyOnWriteArrayList<>();
+    private final JobTypeMetrics metrics = new JobTypeMetrics() {
+        @Override
+        public void handlerStarted(ActivatedJob job) {
+        }
+
+        @Override
+        public void handlerFinished(long durationNanos, boolean success) {
+            outcomes.add(success);
+        }
+    };
+
+    private FakeGateway gateway;
+    private ZeebeClient client;
+    private ActivatedJob job;
+
+    @BeforeEach
+    void start() throws Exception {
+        gateway = FakeGateway.builder().jobs("check-order", 1).build().start();
+        client = ZeebeClient.newClientBuilder()
+                .gatewayAddress(gateway.getAddress())
+                .usePlaintext()
+                .build();
+        job = TestJobs.activate(client, "check-order", 1).get(0);
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        client.close();
+        gateway.close();
+    }
+
+    @Test
+    void shouldRecordCompletedJobAsSuccess() throws Exception {
+        CompletionStage<?> stage = handler((client, job) -> Map.of("orderValid", true)).handleAsync(client, job);
+
+        assertThat(gateway.awaitCommands(1, Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).singleElement().extracting(RecordedCommand::type).isEqualTo(RecordedCommand.Type.COMPLETE);
+        assertThat(stage.toCompletableFuture()).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(outcomes).containsExactly(true);
+    }
+
+    @Test
+    void shouldRecordFailedJobAsFailure() throws Exception {
+        CompletionStage<?> stage = handler((client, job) -> {
+            throw new IllegalStateException("order service unavailable");
+        }).handleAsync(client, job);
+
+        assertThat(stage.toCompletableFuture()).failsWithin(Duration.ofSeconds(10));
+        assertThat(gateway.getCommands()).singleElement().extracting(RecordedCommand::type).isEqualTo(RecordedCommand.Type.FAIL);
+        assertThat(outcomes).containsExactly(false);
+    }
+
+    @Test
+    void shouldRecordAsynchronouslyFailedJobAsFailure() throws Exception {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletionStage<?> stage = handler((client, job) -> result).handleAsync(client, job);
+
+        result.completeExceptionally(new IllegalStateException("order service unavailable"));
+
+        assertThat(stage.toCompletableFuture()).failsWithin(Duration.ofSeconds(10));
+        assertThat(gateway.getCommands()).singleElement().extracting(RecordedCommand::type).isEqualTo(RecordedCommand.Type.FAIL);
+        assertThat(outcomes).containsExactly(false);
+    }
+
+    @Test
+    void shouldCompleteAsynchronousJobOnce() throws Exception {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletionStage<?> stage = handler((client, job) -> result).handleAsync(client, job);
+
+        result.complete("{\"orderValid\":true}");
+
+        assertThat(stage.toCompletableFuture()).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(gateway.getCommands()).singleElement().extracting(RecordedCommand::type).isEqualTo(RecordedCommand.Type.COMPLETE);
+        assertThat(outcomes).containsExactly(true);
+    }
+
+    private InstrumentedJobHandler handler(JobInvoker invoker) {
+        return new InstrumentedJobHandler(new AutoCompletingJobHandler(invoker, new JobCompleter(null)), metrics);
+    }
+}
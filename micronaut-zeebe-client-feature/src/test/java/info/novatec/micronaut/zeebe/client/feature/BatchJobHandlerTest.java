@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import info.novatec.micronaut.zeebe.client.testing.RecordedCommand;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class BatchJobHandlerTest {
+
+    // long enough for every test to hand over its jobs before a batch is handed over incomplete
+    private static final Duration FULL_BATCH_WINDOW = Duration.ofMinutes(1);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<List<ActivatedJob>> batches = new CopyOnWriteArrayList<>();
+
+    private FakeGateway gateway;
+    private ZeebeClient client;
+
+    @BeforeEach
+    void start() throws Exception {
+        gateway = FakeGateway.builder().jobs("insert-orders", 3).build().start();
+        client = ZeebeClient.newClientBuilder()
+                .gatewayAddress(gateway.getAddress())
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        scheduler.shutdownNow();
+        client.close();
+        gateway.close();
+    }
+
+    @Test
+    void shouldReportTheOutcomeOfEveryJob() throws Exception {
+        List<ActivatedJob> jobs = TestJobs.activate(client, "insert-orders", 3);
+        BatchJobHandler handler = handler(true, 3, FULL_BATCH_WINDOW, batch -> List.of(
+                Map.of("inserted", true),
+                new IllegalStateException("duplicate order"),
+                new ZeebeBpmnError("order-rejected", "order was rejected")));
+
+        List<CompletionStage<?>> stages = handleAll(handler, jobs);
+
+        assertThat(gateway.awaitCommands(3, Duration.ofSeconds(10))).isTrue();
+        assertThat(commandTypesByJobKey()).containsExactly(
+                Map.entry(jobs.get(0).getKey(), RecordedCommand.Type.COMPLETE),
+                Map.entry(jobs.get(1).getKey(), RecordedCommand.Type.FAIL),
+                Map.entry(jobs.get(2).getKey(), RecordedCommand.Type.THROW_ERROR));
+        assertThat(gateway.getCommands().stream().filter(command -> command.jobKey() == jobs.get(0).getKey()))
+                .singleElement().satisfies(command -> assertThat(command.variables()).contains("\"inserted\":true"));
+        assertThat(batches).hasSize(1);
+        assertThat(stages.get(0).toCompletableFuture()).succeedsWithin(Duration.ofSeconds(10));
+        // failed jobs are recorded as failures, e.g. by the job metrics
+        assertThat(stages.get(1).toCompletableFuture()).failsWithin(Duration.ofSeconds(10));
+        assertThat(stages.get(2).toCompletableFuture()).failsWithin(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldCompleteEveryJobWithSingleResult() throws Exception {
+        List<ActivatedJob> jobs = TestJobs.activate(client, "insert-orders", 3);
+        BatchJobHandler handler = handler(true, 3, FULL_BATCH_WINDOW, batch -> Map.of("inserted", true));
+
+        handleAll(handler, jobs);
+
+        assertThat(gateway.awaitCommands(3, Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).allSatisfy(command -> {
+            assertThat(command.type()).isEqualTo(RecordedCommand.Type.COMPLETE);
+            assertThat(command.variables()).contains("\"inserted\":true");
+        });
+    }
+
+    @Test
+    void shouldFailEveryJobIfTheMethodThrows() throws Exception {
+        List<ActivatedJob> jobs = TestJobs.activate(client, "insert-orders", 3);
+        BatchJobHandler handler = handler(true, 3, FULL_BATCH_WINDOW, batch -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        List<CompletionStage<?>> stages = handleAll(handler, jobs);
+
+        assertThat(gateway.awaitCommands(3, Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).extracting(RecordedCommand::type).containsOnly(RecordedCommand.Type.FAIL);
+        stages.forEach(stage -> assertThat(stage.toCompletableFuture()).failsWithin(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void shouldFailEveryJobIfTheMethodReturnsTooFewResults() throws Exception {
+        List<ActivatedJob> jobs = TestJobs.activate(client, "insert-orders", 3);
+        BatchJobHandler handler = handler(true, 3, FULL_BATCH_WINDOW, batch -> List.of(Map.of("inserted", true)));
+
+        handleAll(handler, jobs);
+
+        assertThat(gateway.awaitCommands(3, Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).extracting(RecordedCommand::type).containsOnly(RecordedCommand.Type.FAIL);
+    }
+
+    @Test
+    void shouldFailEveryJobIfTheStageFails() throws Exception {
+        List<ActivatedJob> jobs = TestJobs.activate(client, "insert-orders", 3);
+        BatchJobHandler handler = handler(true, 3, FULL_BATCH_WINDOW,
+                batch -> CompletableFuture.failedFuture(new IllegalStateException("database unavailable")));
+
+        handleAll(handler, jobs);
+
+        assertThat(gateway.awaitCommands(3, Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).extracting(RecordedCommand::type).containsOnly(RecordedCommand.Type.FAIL);
+    }
+
+    @Test
+    void shouldOnlyReportFailuresWithoutAutoComplete() throws Exception {
+        List<ActivatedJob> jobs = TestJobs.activate(client, "insert-orders", 3);
+        BatchJobHandler handler = handler(false, 3, FULL_BATCH_WINDOW,
+                batch -> List.of("ignored", new IllegalStateException("duplicate order"), "ignored"));
+
+        List<CompletionStage<?>> stages = handleAll(handler, jobs);
+
+        assertThat(stages.get(0).toCompletableFuture()).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(stages.get(1).toCompletableFuture()).failsWithin(Duration.ofSeconds(10));
+        assertThat(stages.get(2).toCompletableFuture()).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(gateway.awaitCommands(1, Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.awaitCommands(2, Duration.ofMillis(200))).isFalse();
+        assertThat(commandTypesByJobKey()).containsExactly(Map.entry(jobs.get(1).getKey(), RecordedCommand.Type.FAIL));
+    }
+
+    @Test
+    void shouldHandOverIncompleteBatchAfterTheBatchWindow() throws Exception {
+        List<ActivatedJob> jobs = TestJobs.activate(client, "insert-orders", 2);
+        BatchJobHandler handler = handler(true, 10, Duration.ofMillis(50), batch -> null);
+
+        List<CompletionStage<?>> stages = handleAll(handler, jobs);
+
+        stages.forEach(stage -> assertThat(stage.toCompletableFuture()).succeedsWithin(Duration.ofSeconds(10)));
+        assertThat(batches).singleElement().satisfies(batch -> assertThat(batch).containsExactlyElementsOf(jobs));
+    }
+
+    private BatchJobHandler handler(boolean autoComplete, int batchSize, Duration batchWindow, Function<List<ActivatedJob>, Object> method) {
+        return new BatchJobHandler((client, jobs) -> {
+            batches.add(jobs);
+            return method.apply(jobs);
+        }, new JobCompleter(null), autoComplete, batchSize, batchWindow.toNanos(), scheduler, Runnable::run);
+    }
+
+    private List<CompletionStage<?>> handleAll(BatchJobHandler handler, List<ActivatedJob> jobs) {
+        List<CompletionStage<?>> stages = new ArrayList<>();
+        for (ActivatedJob job : jobs) {
+            stages.add(handler.handleAsync(client, job));
+        }
+        return stages;
+    }
+
+    private Map<Long, RecordedCommand.Type> commandTypesByJobKey() {
+        return gateway.getCommands().stream()
+                .sorted((a, b) -> Long.compare(a.jobKey(), b.jobKey()))
+                .collect(Collectors.toMap(RecordedCommand::jobKey, RecordedCommand::type, (a, b) -> a, LinkedHashMap::new));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Executable;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class BindingJobHandlerTest {
+
+    private static BeanContext beanContext;
+
+    private final JobVariableMapper jobVariableMapper = new JobVariableMapper(new JacksonJsonMapper(new ObjectMapper()));
+
+    @BeforeAll
+    static void start() {
+        beanContext = BeanContext.run();
+    }
+
+    @AfterAll
+    static void stop() {
+        beanContext.close();
+    }
+
+    @Test
+    void shouldBindPrimitiveVariable() throws Exception {
+        BindingJobHandler handler = handler("primitive", long.class);
+
+        assertThat(handler.invoke(null, TestJobs.job(1, "ship-order", "{\"orderId\":4711}"))).isEqualTo(4711L);
+    }
+
+    @Test
+    void shouldFailForMissingPrimitiveVariable() {
+        BindingJobHandler handler = handler("primitive", long.class);
+
+        assertThatThrownBy(() -> handler.invoke(null, TestJobs.job(1, "ship-order", "{}")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'orderId'");
+        assertThatThrownBy(() -> handler.invoke(null, TestJobs.job(2, "ship-order", "{\"orderId\":null}")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'orderId'");
+    }
+
+    @Test
+    void shouldBindMissingVariableAsNullForWrapperType() throws Exception {
+        BindingJobHandler handler = handler("wrapper", Long.class);
+
+        assertThat(handler.invoke(null, TestJobs.job(1, "ship-order", "{}"))).isNull();
+    }
+
+    @Test
+    void shouldBindVariablesWithObjectMapperOfClient() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+        try (ZeebeClient client = ZeebeClient.newClientBuilder()
+                .gatewayAddress("localhost:26500")
+                .usePlaintext()
+                .withJsonMapper(new JacksonJsonMapper(objectMapper))
+                .build()) {
+            JobVariableMapper clientMapper = new JobVariableMapper(client);
+            BindingJobHandler handler = new BindingJobHandler(new Handlers(), method("list", List.class), clientMapper);
+
+            assertThat(clientMapper.getObjectMapper()).isSameAs(objectMapper);
+            assertThat(handler.invoke(null, TestJobs.job(1, "ship-order", "{\"skus\":\"A-1\"}"))).isEqualTo(List.of("A-1"));
+        }
+    }
+
+    @Test
+    void shouldBindVariablesWithDefaultMapperOfClient() throws Exception {
+        try (ZeebeClient client = ZeebeClient.newClientBuilder()
+                .gatewayAddress("localhost:26500")
+                .usePlaintext()
+                .build()) {
+            JobVariableMapper clientMapper = new JobVariableMapper(client);
+            BindingJobHandler handler = new BindingJobHandler(new Handlers(), method("primitive", long.class), clientMapper);
+
+            assertThat(clientMapper.getJsonMapper()).isSameAs(client.getConfiguration().getJsonMapper());
+            assertThat(handler.invoke(null, TestJobs.job(1, "ship-order", "{\"orderId\":4711,\"unknown\":true}"))).isEqualTo(4711L);
+        }
+    }
+
+    private BindingJobHandler handler(String name, Class<?>... argumentTypes) {
+        return new BindingJobHandler(new Handlers(), method(name, argumentTypes), jobVariableMapper);
+    }
+
+    private ExecutableMethod<Handlers, ?> method(String name, Class<?>... argumentTypes) {
+        return beanContext.getBeanDefinition(Handlers.class).getRequiredMethod(name, argumentTypes);
+    }
+
+    @Singleton
+    static class Handlers {
+
+        @Executable
+        Long primitive(@Variable long orderId) {
+            return orderId;
+        }
+
+        @Executable
+        Long wrapper(@Variable("orderId") Long orderId) {
+            return orderId;
+        }
+
+        @Executable
+        List<String> list(@Variable List<String> skus) {
+            return skus;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import io.camunda.zeebe.client.ZeebeClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class ChannelPoolInterceptorTest {
+
+    @Test
+    void shouldReadDefaultServiceConfigOfClient() {
+        ChannelPoolInterceptor interceptor = new ChannelPoolInterceptor(2, PooledChannel.Selection.ROUND_ROBIN, null);
+
+        Map<String, ?> serviceConfig = interceptor.getDefaultServiceConfig();
+
+        assertThat(serviceConfig).containsKey("methodConfig");
+        assertThat((List<?>) serviceConfig.get("methodConfig")).allSatisfy(methodConfig -> {
+            Map<?, ?> retryPolicy = (Map<?, ?>) ((Map<?, ?>) methodConfig).get("retryPolicy");
+            if (retryPolicy != null) {
+                assertThat(retryPolicy.get("maxAttempts")).isInstanceOf(Double.class);
+            }
+        });
+    }
+
+    @Test
+    void shouldSendCallsWithDefaultRetryPolicyToPool() throws Exception {
+        try (FakeGateway gateway = FakeGateway.builder().build().start();
+             ChannelPoolInterceptor interceptor = new ChannelPoolInterceptor(2, PooledChannel.Selection.ROUND_ROBIN, null);
+             ZeebeClient client = ZeebeClient.newClientBuilder()
+                     .gatewayAddress(gateway.getAddress())
+                     .usePlaintext()
+                     .withInterceptors(interceptor)
+                     .build()) {
+            assertThat(client.getConfiguration().useDefaultRetryPolicy()).isTrue();
+            interceptor.open(client.getConfiguration());
+
+            assertThat(client.newTopologyRequest().send().join().getBrokers()).isNotNull();
+            assertThat(interceptor.channel).isInstanceOf(PooledChannel.class);
+        }
+    }
+}
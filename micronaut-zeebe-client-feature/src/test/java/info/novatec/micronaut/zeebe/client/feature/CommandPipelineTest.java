@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class CommandPipelineTest {
+
+    private final CommandPipeline pipeline = new CommandPipeline("command-pipeline-test", 4, 3, Duration.ofMillis(1));
+
+    @AfterEach
+    void stop() {
+        pipeline.close();
+    }
+
+    @Test
+    void shouldRetryCommandRejectedBecauseOfBackpressure() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = pipeline.send(command(() -> attempts.incrementAndGet() <= 2
+                ? CompletableFuture.failedFuture(new StatusRuntimeException(Status.RESOURCE_EXHAUSTED))
+                : CompletableFuture.completedFuture("sent")));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(10)).isEqualTo("sent");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void shouldFailAfterMaxRetries() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = pipeline.send(command(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new StatusRuntimeException(Status.RESOURCE_EXHAUSTED));
+        }));
+
+        assertThat(result).failsWithin(Duration.ofSeconds(10))
+                .withThrowableOfType(ExecutionException.class)
+                .withRootCauseInstanceOf(StatusRuntimeException.class);
+        assertThat(attempts).hasValue(4);
+    }
+
+    @Test
+    void shouldNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = pipeline.send(command(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new StatusRuntimeException(Status.UNAVAILABLE));
+        }));
+
+        assertThat(result).failsWithin(Duration.ofSeconds(10));
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void shouldKeepRetriedCommandInTheWindow() throws Exception {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = pipeline.send(command(() -> attempts.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(new StatusRuntimeException(Status.RESOURCE_EXHAUSTED))
+                : response));
+
+        assertThat(pipeline.getInFlight()).isEqualTo(1);
+        assertThat(pipeline.awaitInFlight(Duration.ofMillis(50))).isFalse();
+
+        response.complete("sent");
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(pipeline.awaitInFlight(Duration.ofSeconds(10))).isTrue();
+        assertThat(pipeline.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldSendCommandsWithTheSameKeyInOrder() {
+        Map<String, CompletableFuture<String>> lastByKey = new ConcurrentHashMap<>();
+        List<String> sent = new CopyOnWriteArrayList<>();
+        CompletableFuture<String> firstResponse = new CompletableFuture<>();
+        AtomicInteger firstAttempts = new AtomicInteger();
+
+        CompletableFuture<String> first = pipeline.send(command(() -> {
+            sent.add("order-1");
+            // the first command is rejected once and sent again after a backoff
+            return firstAttempts.incrementAndGet() == 1
+                    ? CompletableFuture.failedFuture(new StatusRuntimeException(Status.RESOURCE_EXHAUSTED))
+                    : firstResponse;
+        }), result -> lastByKey.put("order", result));
+        CompletableFuture<String> second = pipeline.send(command(() -> {
+            sent.add("order-2");
+            return CompletableFuture.completedFuture("second");
+        }), result -> lastByKey.put("order", result));
+        CompletableFuture<String> other = pipeline.send(command(() -> {
+            sent.add("invoice-1");
+            return CompletableFuture.completedFuture("other");
+        }), result -> lastByKey.put("invoice", result));
+
+        // a command with another key does not wait
+        assertThat(other).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(second).isNotDone();
+
+        firstResponse.complete("first");
+
+        assertThat(first).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(second).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(sent.stream().filter(command -> command.startsWith("order")).toList())
+                .containsExactly("order-1", "order-1", "order-2");
+    }
+
+    @Test
+    void shouldSendCommandAfterFailedPredecessor() {
+        CompletableFuture<String> failed = CompletableFuture.failedFuture(new StatusRuntimeException(Status.NOT_FOUND));
+
+        CompletableFuture<String> result = pipeline.send(command(() -> CompletableFuture.completedFuture("sent")), ignored -> failed);
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(10)).isEqualTo("sent");
+    }
+
+    /**
+     * @return a supplier of a command whose every send returns the next response of the given supplier
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<FinalCommandStep<String>> command(Supplier<CompletableFuture<String>> responses) {
+        FinalCommandStep<String> command = (FinalCommandStep<String>) Proxy.newProxyInstance(FinalCommandStep.class.getClassLoader(),
+                new Class<?>[]{FinalCommandStep.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "send" -> future(responses.get());
+                    case "requestTimeout" -> proxy;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return () -> command;
+    }
+
+    /**
+     * @return a {@link ZeebeFuture} which supports the methods of {@link java.util.concurrent.CompletionStage} and
+     * {@link java.util.concurrent.Future}
+     */
+    @SuppressWarnings("unchecked")
+    private static ZeebeFuture<String> future(CompletableFuture<String> response) {
+        return (ZeebeFuture<String>) Proxy.newProxyInstance(ZeebeFuture.class.getClassLoader(), new Class<?>[]{ZeebeFuture.class},
+                (proxy, method, args) -> method.invoke(response, args));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import info.novatec.micronaut.zeebe.client.testing.RecordedCommand;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class DispatchingJobHandlerTest {
+
+    // the executor of jobExecutor = "virtual", see ZeebeWorkerProcessor
+    private final ExecutorService virtualThreads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("zeebe-job-handler-", 0).factory());
+
+    private FakeGateway gateway;
+    private ZeebeClient client;
+
+    @BeforeEach
+    void start() throws Exception {
+        gateway = FakeGateway.builder().jobs("ship-order", 1).build().start();
+        client = ZeebeClient.newClientBuilder()
+                .gatewayAddress(gateway.getAddress())
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        virtualThreads.shutdownNow();
+        client.close();
+        gateway.close();
+    }
+
+    @Test
+    void shouldHandleJobOnVirtualThreadWithoutBlockingTheCaller() throws Exception {
+        CountDownLatch shipping = new CountDownLatch(1);
+        CompletableFuture<Thread> handlerThread = new CompletableFuture<>();
+        DispatchingJobHandler handler = new DispatchingJobHandler((client, job) -> {
+            handlerThread.complete(Thread.currentThread());
+            shipping.await();
+        }, virtualThreads);
+
+        CompletionStage<?> stage = handler.handleAsync(client, TestJobs.job(1, "ship-order"));
+
+        assertThat(handlerThread).succeedsWithin(Duration.ofSeconds(10)).satisfies(thread -> {
+            assertThat(thread.isVirtual()).isTrue();
+            assertThat(thread.getName()).startsWith("zeebe-job-handler-");
+        });
+        assertThat(stage.toCompletableFuture()).isNotDone();
+        shipping.countDown();
+        assertThat(stage.toCompletableFuture()).succeedsWithin(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldCompleteWithTheStageOfAsyncHandler() {
+        CompletableFuture<Object> shipped = new CompletableFuture<>();
+        DispatchingJobHandler handler = new DispatchingJobHandler((AsyncJobHandler) (client, job) -> shipped, virtualThreads);
+
+        CompletionStage<?> stage = handler.handleAsync(client, TestJobs.job(1, "ship-order"));
+
+        assertThat(stage.toCompletableFuture()).isNotDone();
+        shipped.complete("shipped");
+        assertThat(stage.toCompletableFuture()).succeedsWithin(Duration.ofSeconds(10)).isEqualTo("shipped");
+    }
+
+    @Test
+    void shouldFailJobWhoseHandlerThrows() throws Exception {
+        ActivatedJob job = TestJobs.activate(client, "ship-order", 1).get(0);
+        DispatchingJobHandler handler = new DispatchingJobHandler((client, activatedJob) -> {
+            throw new IllegalStateException("shipping service unavailable");
+        }, virtualThreads);
+
+        CompletionStage<?> stage = handler.handleAsync(client, job);
+
+        assertThat(stage.toCompletableFuture()).failsWithin(Duration.ofSeconds(10));
+        assertThat(gateway.awaitCommands(1, Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).singleElement().extracting(RecordedCommand::type).isEqualTo(RecordedCommand.Type.FAIL);
+    }
+
+    @Test
+    void shouldRejectJobIfTheExecutorIsShutDown() {
+        virtualThreads.shutdown();
+        DispatchingJobHandler handler = new DispatchingJobHandler((client, job) -> {
+        }, virtualThreads);
+
+        assertThatThrownBy(() -> handler.handleAsync(client, TestJobs.job(1, "ship-order"))).isInstanceOf(RejectedExecutionException.class);
+    }
+}
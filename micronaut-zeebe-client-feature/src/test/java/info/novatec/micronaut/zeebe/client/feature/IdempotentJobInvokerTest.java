@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotentJobInvokerTest {
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(10, Duration.ofHours(1));
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final ActivatedJob job = TestJobs.job(1, "charge");
+
+    @Test
+    void shouldCompleteJobActivatedAgainWithStoredResult() throws Exception {
+        IdempotentJobInvoker invoker = invoker((client, job) -> {
+            invocations.incrementAndGet();
+            return "{\"receipt\":1}";
+        });
+
+        assertThat(invoker.invoke(null, job)).isEqualTo("{\"receipt\":1}");
+        assertThat(invoker.invoke(null, job)).isEqualTo("{\"receipt\":1}");
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void shouldWaitForResultOfJobStillRunning() throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        IdempotentJobInvoker invoker = invoker((client, job) -> {
+            invocations.incrementAndGet();
+            return result;
+        });
+
+        CompletableFuture<?> first = ((CompletionStage<?>) invoker.invoke(null, job)).toCompletableFuture();
+        CompletableFuture<?> second = ((CompletionStage<?>) invoker.invoke(null, job)).toCompletableFuture();
+
+        assertThat(second).isNotDone();
+        result.complete("{\"receipt\":1}");
+        assertThat(first).isCompletedWithValue("{\"receipt\":1}");
+        assertThat(second).isCompletedWithValue("{\"receipt\":1}");
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void shouldInvokeAgainAfterFailure() throws Exception {
+        IdempotentJobInvoker invoker = invoker((client, job) -> {
+            if (invocations.incrementAndGet() == 1) {
+                throw new IllegalStateException("payment service unavailable");
+            }
+            return "{}";
+        });
+
+        assertThatThrownBy(() -> invoker.invoke(null, job)).isInstanceOf(IllegalStateException.class);
+        assertThat(invoker.invoke(null, job)).isEqualTo("{}");
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void shouldInvokeWaitingJobIfRunningJobFailed() throws Exception {
+        CompletableFuture<String> firstResult = new CompletableFuture<>();
+        IdempotentJobInvoker invoker = invoker((client, job) -> invocations.incrementAndGet() == 1
+                ? firstResult
+                : CompletableFuture.completedFuture("{}"));
+
+        CompletableFuture<?> first = ((CompletionStage<?>) invoker.invoke(null, job)).toCompletableFuture();
+        CompletableFuture<?> second = ((CompletionStage<?>) invoker.invoke(null, job)).toCompletableFuture();
+        firstResult.completeExceptionally(new IllegalStateException("payment service unavailable"));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedWithValue("{}");
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    void shouldSeparateKeys() throws Exception {
+        IdempotentJobInvoker invoker = invoker((client, job) -> "{\"job\":" + invocations.incrementAndGet() + "}");
+
+        assertThat(invoker.invoke(null, TestJobs.job(1, "charge"))).isEqualTo("{\"job\":1}");
+        assertThat(invoker.invoke(null, TestJobs.job(2, "charge"))).isEqualTo("{\"job\":2}");
+    }
+
+    private IdempotentJobInvoker invoker(JobInvoker delegate) {
+        return new IdempotentJobInvoker(delegate, store, job -> "cluster:" + job.getType() + ":" + job.getKey(), null);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.camunda.zeebe.client.api.worker.JobWorker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class IdleAwareJobWorkerTest {
+
+    private static final Duration IDLE_AFTER = Duration.ofMillis(100);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<FakeJobWorker> opened = new CopyOnWriteArrayList<>();
+    private volatile boolean failIdleOpen = false;
+
+    @AfterEach
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void shouldSwitchToIdleWithoutJobs() throws Exception {
+        IdleAwareJobWorker worker = worker().open();
+
+        // the busy job worker is closed after the idle one was opened
+        await(() -> worker.isIdle() && opened.get(0).isClosed());
+
+        assertThat(opened).extracting(FakeJobWorker::idle).containsExactly(false, true);
+        assertThat(opened.get(1).isOpen()).isTrue();
+        assertThat(worker.isOpen()).isTrue();
+    }
+
+    @Test
+    void shouldSwitchBackToBusyOnTheFirstJob() throws Exception {
+        IdleAwareJobWorker worker = worker().open();
+        await(worker::isIdle);
+
+        AsyncJobHandler.handleAsync(opened.get(1).jobHandler(), null, TestJobs.job(1, "say-hello"));
+        await(() -> opened.size() >= 3 && opened.get(1).isClosed());
+
+        assertThat(opened).extracting(FakeJobWorker::idle).startsWith(false, true, false);
+    }
+
+    @Test
+    void shouldStayBusyWhileJobsArrive() throws Exception {
+        IdleAwareJobWorker worker = worker().open();
+
+        long deadline = System.nanoTime() + IDLE_AFTER.toNanos() * 3;
+        while (System.nanoTime() < deadline) {
+            AsyncJobHandler.handleAsync(opened.get(0).jobHandler(), null, TestJobs.job(1, "say-hello"));
+            Thread.sleep(10);
+        }
+
+        assertThat(worker.isIdle()).isFalse();
+        assertThat(opened).hasSize(1);
+    }
+
+    @Test
+    void shouldKeepTheBusySettingsIfReopeningFails() throws Exception {
+        failIdleOpen = true;
+        IdleAwareJobWorker worker = worker().open();
+
+        Thread.sleep(IDLE_AFTER.toMillis() * 3);
+
+        assertThat(worker.isIdle()).isFalse();
+        assertThat(opened).singleElement().satisfies(busy -> assertThat(busy.isOpen()).isTrue());
+    }
+
+    @Test
+    void shouldNotSwitchAfterClose() throws Exception {
+        IdleAwareJobWorker worker = worker().open();
+
+        worker.close();
+        Thread.sleep(IDLE_AFTER.toMillis() * 3);
+
+        assertThat(worker.isClosed()).isTrue();
+        assertThat(worker.isOpen()).isFalse();
+        assertThat(opened).singleElement().satisfies(busy -> assertThat(busy.isClosed()).isTrue());
+    }
+
+    @Test
+    void shouldRejectNonPositiveIdleTime() {
+        assertThatThrownBy(() -> new IdleAwareJobWorker("say-hello", (idle, handler) -> null, (client, job) -> {
+        }, Duration.ZERO, scheduler)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private IdleAwareJobWorker worker() {
+        return new IdleAwareJobWorker("say-hello", (idle, jobHandler) -> {
+            if (idle && failIdleOpen) {
+                throw new IllegalStateException("gateway unavailable");
+            }
+            FakeJobWorker jobWorker = new FakeJobWorker(idle, jobHandler);
+            opened.add(jobWorker);
+            return jobWorker;
+        }, (client, job) -> {
+        }, IDLE_AFTER, scheduler);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class FakeJobWorker implements JobWorker {
+
+        private final boolean idle;
+        private final JobHandler jobHandler;
+        private volatile boolean closed = false;
+
+        FakeJobWorker(boolean idle, JobHandler jobHandler) {
+            this.idle = idle;
+            this.jobHandler = jobHandler;
+        }
+
+        boolean idle() {
+            return idle;
+        }
+
+        JobHandler jobHandler() {
+            return jobHandler;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
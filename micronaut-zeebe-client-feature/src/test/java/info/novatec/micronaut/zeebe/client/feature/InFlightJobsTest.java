@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import info.novatec.micronaut.zeebe.client.testing.RecordedCommand;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class InFlightJobsTest {
+
+    private final InFlightJobs inFlightJobs = new InFlightJobs();
+    private final List<ActivatedJob> handled = new CopyOnWriteArrayList<>();
+
+    private FakeGateway gateway;
+    private ZeebeClient client;
+
+    @BeforeEach
+    void start() throws Exception {
+        gateway = FakeGateway.builder().jobs("ship-order", 2).build().start();
+        client = ZeebeClient.newClientBuilder()
+                .gatewayAddress(gateway.getAddress())
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        client.close();
+        gateway.close();
+    }
+
+    @Test
+    void shouldTrackJobUntilItsStageCompletes() throws Exception {
+        ActivatedJob job = TestJobs.activate(client, "ship-order", 1).get(0);
+        CompletableFuture<Object> shipped = new CompletableFuture<>();
+        JobHandler handler = inFlightJobs.track(inFlightJobs.handleWhileTracked((AsyncJobHandler) (client, activatedJob) -> shipped));
+
+        CompletionStage<?> stage = AsyncJobHandler.handleAsync(handler, client, job);
+
+        assertThat(inFlightJobs.size()).isEqualTo(1);
+        assertThat(inFlightJobs.awaitEmpty(Duration.ofMillis(50))).isFalse();
+        shipped.complete(null);
+        assertThat(stage.toCompletableFuture()).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(inFlightJobs.awaitEmpty(Duration.ofSeconds(10))).isTrue();
+    }
+
+    @Test
+    void shouldStopTrackingJobWhoseHandlerThrows() throws Exception {
+        ActivatedJob job = TestJobs.activate(client, "ship-order", 1).get(0);
+        JobHandler handler = inFlightJobs.track(inFlightJobs.handleWhileTracked((client, activatedJob) -> {
+            throw new IllegalStateException("shipping service unavailable");
+        }));
+
+        assertThatThrownBy(() -> handler.handle(client, job)).isInstanceOf(IllegalStateException.class);
+        assertThat(inFlightJobs.size()).isZero();
+    }
+
+    @Test
+    void shouldReleaseJobsHandedOverWhileDraining() throws Exception {
+        ActivatedJob job = TestJobs.activate(client, "ship-order", 1).get(0);
+        JobHandler handler = inFlightJobs.track(inFlightJobs.handleWhileTracked((client, activatedJob) -> handled.add(activatedJob)));
+
+        inFlightJobs.startDraining();
+        handler.handle(client, job);
+
+        assertThat(gateway.awaitCommands(1, Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).singleElement().satisfies(command -> {
+            assertThat(command.type()).isEqualTo(RecordedCommand.Type.FAIL);
+            assertThat(command.jobKey()).isEqualTo(job.getKey());
+        });
+        assertThat(handled).isEmpty();
+        assertThat(inFlightJobs.size()).isZero();
+    }
+
+    @Test
+    void shouldReleaseAllJobsLeftAfterDraining() throws Exception {
+        List<ActivatedJob> jobs = TestJobs.activate(client, "ship-order", 2);
+        List<Runnable> waiting = new CopyOnWriteArrayList<>();
+        JobHandler tracked = inFlightJobs.handleWhileTracked((client, activatedJob) -> handled.add(activatedJob));
+        // the handlers wait for an executor, like jobs dispatched to a busy thread pool
+        JobHandler handler = inFlightJobs.track((client, activatedJob) -> waiting.add(() -> {
+            try {
+                tracked.handle(client, activatedJob);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        for (ActivatedJob job : jobs) {
+            handler.handle(client, job);
+        }
+
+        inFlightJobs.startDraining();
+        assertThat(inFlightJobs.awaitEmpty(Duration.ofMillis(50))).isFalse();
+        assertThat(inFlightJobs.releaseAll()).succeedsWithin(Duration.ofSeconds(10));
+        waiting.forEach(Runnable::run);
+
+        assertThat(inFlightJobs.size()).isZero();
+        assertThat(gateway.getCommands()).extracting(RecordedCommand::type).containsOnly(RecordedCommand.Type.FAIL);
+        assertThat(gateway.getCommands()).extracting(RecordedCommand::jobKey)
+                .containsExactlyInAnyOrder(jobs.get(0).getKey(), jobs.get(1).getKey());
+        assertThat(handled).as("released jobs are skipped").isEmpty();
+    }
+
+    @Test
+    void releaseAllShouldWakeUpDrain() throws Exception {
+        ActivatedJob job = TestJobs.activate(client, "ship-order", 1).get(0);
+        inFlightJobs.track((AsyncJobHandler) (client, activatedJob) -> new CompletableFuture<>()).handle(client, job);
+        CompletableFuture<Boolean> drained = CompletableFuture.supplyAsync(() -> {
+            try {
+                return inFlightJobs.awaitEmpty(Duration.ofSeconds(30));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        inFlightJobs.releaseAll();
+
+        assertThat(drained).succeedsWithin(Duration.ofSeconds(10)).isEqualTo(true);
+    }
+}
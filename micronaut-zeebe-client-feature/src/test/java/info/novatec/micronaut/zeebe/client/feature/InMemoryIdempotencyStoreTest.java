@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void shouldReserveKeyOnce() {
+        InMemoryIdempotencyStore store = store(10, Duration.ofHours(1));
+
+        CompletableFuture<Optional<String>> first = store.reserve("a").toCompletableFuture();
+        CompletableFuture<Optional<String>> second = store.reserve("a").toCompletableFuture();
+
+        assertThat(first).isCompletedWithValue(Optional.empty());
+        assertThat(second).isNotDone();
+        store.put("a", "{\"x\":1}");
+        assertThat(second).isCompletedWithValue(Optional.of("{\"x\":1}"));
+        assertThat(store.reserve("a")).isCompletedWithValue(Optional.of("{\"x\":1}"));
+    }
+
+    @Test
+    void shouldHandOverReleasedReservation() {
+        InMemoryIdempotencyStore store = store(10, Duration.ofHours(1));
+        store.reserve("a");
+        CompletableFuture<Optional<String>> second = store.reserve("a").toCompletableFuture();
+        CompletableFuture<Optional<String>> third = store.reserve("a").toCompletableFuture();
+
+        store.release("a");
+
+        // one waiting caller takes over the reservation, the other one keeps waiting
+        assertThat(second.isDone() ^ third.isDone()).isTrue();
+        CompletableFuture<Optional<String>> reserved = second.isDone() ? second : third;
+        CompletableFuture<Optional<String>> waiting = second.isDone() ? third : second;
+        assertThat(reserved).isCompletedWithValue(Optional.empty());
+        store.put("a", "{}");
+        assertThat(waiting).isCompletedWithValue(Optional.of("{}"));
+    }
+
+    @Test
+    void shouldExpireResultsAfterTtl() {
+        InMemoryIdempotencyStore store = store(10, Duration.ofMinutes(1));
+        store.reserve("a");
+        store.put("a", "{}");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertThat(store.reserve("a")).isCompletedWithValue(Optional.of("{}"));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(store.reserve("a")).isCompletedWithValue(Optional.empty());
+    }
+
+    @Test
+    void shouldExpireReservationsAfterTtl() {
+        InMemoryIdempotencyStore store = store(10, Duration.ofMinutes(1));
+        store.reserve("a");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertThat(store.reserve("a")).isNotDone();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(store.reserve("a")).isCompletedWithValue(Optional.empty());
+    }
+
+    @Test
+    void shouldHandOverExpiredReservationToWaitingCaller() throws Exception {
+        InMemoryIdempotencyStore store = store(10, Duration.ofMillis(100));
+        store.reserve("a");
+        CompletableFuture<Optional<String>> waiting = store.reserve("a").toCompletableFuture();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedResults() {
+        InMemoryIdempotencyStore store = store(2, Duration.ofHours(1));
+        store.reserve("a");
+        store.put("a", "{}");
+        store.reserve("b");
+        store.put("b", "{}");
+
+        // "a" was used more recently than "b"
+        store.reserve("a");
+        store.reserve("c");
+        store.put("c", "{}");
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.reserve("a")).isCompletedWithValue(Optional.of("{}"));
+        assertThat(store.reserve("b")).isCompletedWithValue(Optional.empty());
+    }
+
+    @Test
+    void shouldEvictResultsBeforeReservations() {
+        InMemoryIdempotencyStore store = store(2, Duration.ofHours(1));
+        store.reserve("a");
+        store.reserve("b");
+        store.put("b", "{}");
+
+        store.reserve("c");
+
+        // the result of "b" was evicted, the reservations of "a" and "c" are kept
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.reserve("a")).isNotDone();
+        assertThat(store.reserve("c")).isNotDone();
+    }
+
+    @Test
+    void shouldEvictReservationsOnceFull() {
+        InMemoryIdempotencyStore store = store(1, Duration.ofHours(1));
+        store.reserve("a");
+        CompletableFuture<Optional<String>> waiting = store.reserve("a").toCompletableFuture();
+
+        store.reserve("b");
+
+        assertThat(store.size()).isEqualTo(1);
+        // the waiting caller took over the evicted reservation instead of waiting for it forever
+        assertThat(waiting).isCompletedWithValue(Optional.empty());
+    }
+
+    private InMemoryIdempotencyStore store(int maxSize, Duration ttl) {
+        return new InMemoryIdempotencyStore(maxSize, ttl) {
+            @Override
+            protected long nanoTime() {
+                return now.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import info.novatec.micronaut.zeebe.client.testing.RecordedCommand;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class JobCompleterTest {
+
+    private final JobCompleter jobCompleter = new JobCompleter(null);
+
+    private FakeGateway gateway;
+    private ZeebeClient client;
+
+    @BeforeEach
+    void start() throws Exception {
+        gateway = FakeGateway.builder()
+                .jobs("charge", 2)
+                .commandLatency(Duration.ofMillis(300))
+                .build()
+                .start();
+        client = ZeebeClient.newClientBuilder()
+                .gatewayAddress(gateway.getAddress())
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        client.close();
+        gateway.close();
+    }
+
+    @Test
+    void flushShouldWaitForOutstandingCommands() throws Exception {
+        List<ActivatedJob> jobs = TestJobs.activate(client, "charge", 2);
+
+        jobCompleter.complete(client, jobs.get(0), "{\"charged\":true}");
+        jobCompleter.fail(client, jobs.get(1), new IllegalStateException("payment service unavailable"));
+
+        assertThat(jobCompleter.getOutstanding()).isEqualTo(2);
+        assertThat(jobCompleter.flush(Duration.ofMillis(10))).isFalse();
+        assertThat(jobCompleter.flush(Duration.ofSeconds(10))).isTrue();
+        assertThat(jobCompleter.getOutstanding()).isZero();
+        assertThat(gateway.getCommands()).extracting(RecordedCommand::type)
+                .containsExactlyInAnyOrder(RecordedCommand.Type.COMPLETE, RecordedCommand.Type.FAIL);
+    }
+
+    @Test
+    void flushShouldCountRejectedCommandsAsDone() throws Exception {
+        // the gateway rejects commands for jobs it did not activate
+        jobCompleter.complete(client, TestJobs.job(42, "charge"), null);
+
+        assertThat(jobCompleter.flush(Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).isEmpty();
+    }
+
+    @Test
+    void flushShouldReturnAtOnceWithoutCommands() throws Exception {
+        assertThat(jobCompleter.flush(Duration.ZERO)).isTrue();
+    }
+}
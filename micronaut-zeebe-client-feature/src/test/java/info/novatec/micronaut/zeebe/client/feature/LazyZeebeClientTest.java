@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.ZeebeClientBuilder;
+import io.camunda.zeebe.client.ZeebeClientConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyZeebeClientTest {
+
+    private final AtomicInteger built = new AtomicInteger();
+    private final ZeebeClientBuilder builder = ZeebeClient.newClientBuilder()
+            .gatewayAddress("localhost:26500")
+            .usePlaintext();
+
+    @Test
+    void shouldAnswerJsonMapperWithoutBuildingTheClient() {
+        try (ZeebeClient client = LazyZeebeClient.create(builder, this::build)) {
+            assertThat(client.getConfiguration().getJsonMapper()).isSameAs(((ZeebeClientConfiguration) builder).getJsonMapper());
+            assertThat(built).hasValue(0);
+        }
+    }
+
+    @Test
+    void shouldBuildTheClientToAnswerOtherSettings() {
+        try (ZeebeClient client = LazyZeebeClient.create(builder, this::build)) {
+            ZeebeClientConfiguration configuration = client.getConfiguration();
+
+            assertThat(configuration.getGatewayAddress()).isEqualTo("localhost:26500");
+            assertThat(built).hasValue(1);
+            assertThat(client.getConfiguration().getDefaultJobTimeout()).isEqualTo(configuration.getDefaultJobTimeout());
+            assertThat(built).hasValue(1);
+        }
+    }
+
+    @Test
+    void shouldNotBuildTheClientToCloseIt() {
+        ZeebeClient client = LazyZeebeClient.create(builder, this::build);
+
+        client.close();
+
+        assertThat(built).hasValue(0);
+    }
+
+    private ZeebeClient build() {
+        built.incrementAndGet();
+        return builder.build();
+    }
+}
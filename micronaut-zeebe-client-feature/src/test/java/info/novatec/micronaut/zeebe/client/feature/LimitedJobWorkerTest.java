@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import info.novatec.micronaut.zeebe.client.testing.FakeJobStream;
+import info.novatec.micronaut.zeebe.client.testing.RecordedCommand;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1;
+import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1.ActivateJobsCommandStep2;
+import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1.ActivateJobsCommandStep3;
+import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.BackoffSupplier;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.camunda.zeebe.client.api.worker.JobWorker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class LimitedJobWorkerTest {
+
+    private static final int FAST_JOBS = 100;
+
+    private FakeGateway gateway;
+    private ZeebeClient client;
+    private ScheduledExecutorService scheduler;
+    private ExecutorService slowExecutor;
+
+    @BeforeEach
+    void start() throws Exception {
+        gateway = FakeGateway.builder()
+                .jobs("slow", FakeJobStream.UNLIMITED)
+                .jobs("fast", FAST_JOBS)
+                .jobs("rated", FakeJobStream.UNLIMITED)
+                .build()
+                .start();
+        // a single job worker thread shared by the workers of all job types, the default of the client
+        client = ZeebeClient.newClientBuilder()
+                .gatewayAddress(gateway.getAddress())
+                .usePlaintext()
+                .numJobWorkerExecutionThreads(1)
+                .build();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        slowExecutor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        slowExecutor.shutdownNow();
+        scheduler.shutdownNow();
+        client.close();
+        gateway.close();
+    }
+
+    @Test
+    void saturatedJobTypeShouldNotDelayOtherJobTypes() throws Exception {
+        CountDownLatch slowJobsStarted = new CountDownLatch(2);
+        CountDownLatch releaseSlowJobs = new CountDownLatch(1);
+        AtomicInteger slowJobs = new AtomicInteger();
+        JobHandler slowHandler = (jobClient, job) -> {
+            slowJobs.incrementAndGet();
+            slowJobsStarted.countDown();
+            releaseSlowJobs.await();
+            jobClient.newCompleteCommand(job.getKey()).send();
+        };
+        LimitedJobWorker slow = new LimitedJobWorker(client, settings("slow", 2),
+                new DispatchingJobHandler(slowHandler, slowExecutor), new FixedConcurrencyLimit(2), null,
+                BackoffSupplier.newBackoffBuilder().build(), scheduler, null).open();
+        assertThat(slowJobsStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        try (JobWorker fast = client.newWorker()
+                .jobType("fast")
+                .handler((jobClient, job) -> jobClient.newCompleteCommand(job.getKey()).send())
+                .open()) {
+            assertThat(gateway.awaitCommands(FAST_JOBS, Duration.ofSeconds(10))).isTrue();
+        }
+
+        assertThat(gateway.getCommands()).allMatch(command -> command.jobType().equals("fast") && command.type() == RecordedCommand.Type.COMPLETE);
+        // the saturated job type activated no more jobs than its limit, although its executor has idle threads
+        assertThat(slowJobs.get()).isEqualTo(2);
+        releaseSlowJobs.countDown();
+        slow.close();
+    }
+
+    @Test
+    void shouldActivateMoreJobsOnceHandlersFinished() throws Exception {
+        FixedConcurrencyLimit limit = new FixedConcurrencyLimit(3);
+        AtomicInteger maxInFlight = new AtomicInteger();
+        JobHandler handler = (jobClient, job) -> {
+            maxInFlight.accumulateAndGet(limit.getInFlight(), Math::max);
+            Thread.sleep(5);
+            jobClient.newCompleteCommand(job.getKey()).send().join();
+        };
+        LimitedJobWorker worker = new LimitedJobWorker(client, settings("slow", 10),
+                new DispatchingJobHandler(handler, slowExecutor), limit, null,
+                BackoffSupplier.newBackoffBuilder().build(), scheduler, null).open();
+
+        assertThat(gateway.awaitCommands(30, Duration.ofSeconds(10))).isTrue();
+        worker.close();
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void rateLimitedJobTypeShouldNotDelayOtherJobTypes() throws Exception {
+        AtomicInteger ratedJobs = new AtomicInteger();
+        JobHandler ratedHandler = (jobClient, job) -> {
+            ratedJobs.incrementAndGet();
+            jobClient.newCompleteCommand(job.getKey()).send();
+        };
+        long start = System.nanoTime();
+        LimitedJobWorker rated = new LimitedJobWorker(client, settings("rated", 10),
+                new DispatchingJobHandler(ratedHandler, slowExecutor), new FixedConcurrencyLimit(10), new RateLimiter(2, 1),
+                BackoffSupplier.newBackoffBuilder().build(), scheduler, null).open();
+
+        CountDownLatch fastJobs = new CountDownLatch(FAST_JOBS);
+        try (JobWorker fast = client.newWorker()
+                .jobType("fast")
+                .handler((jobClient, job) -> {
+                    jobClient.newCompleteCommand(job.getKey()).send();
+                    fastJobs.countDown();
+                })
+                .open()) {
+            // the fast job type keeps its own throughput while the rate limited one waits for its permits
+            assertThat(fastJobs.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+        rated.close();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        assertThat(ratedJobs.get()).isBetween(1, (int) Math.ceil(1 + 2 * seconds));
+    }
+
+    @Test
+    void pendingActivateRequestShouldNotTakePermitsOfWorkersSharingTheLimit() throws Exception {
+        FixedConcurrencyLimit shared = new FixedConcurrencyLimit(2);
+        // the job worker of another cluster whose activate requests are held open as no job is available
+        PendingActivations otherCluster = new PendingActivations();
+        CountDownLatch otherJobHandled = new CountDownLatch(1);
+        LimitedJobWorker other = new LimitedJobWorker(otherCluster.client(), settings("slow", 2),
+                (jobClient, job) -> otherJobHandled.countDown(), new CompositeConcurrencyLimit(new FixedConcurrencyLimit(2), shared), null,
+                BackoffSupplier.newBackoffBuilder().build(), scheduler, null).open();
+        CompletableFuture<ActivateJobsResponse> pendingRequest = otherCluster.responses.poll(10, TimeUnit.SECONDS);
+        assertThat(pendingRequest).isNotNull();
+        assertThat(otherCluster.maxJobs).containsExactly(2);
+
+        CountDownLatch slowJobsStarted = new CountDownLatch(2);
+        CountDownLatch releaseSlowJobs = new CountDownLatch(1);
+        JobHandler slowHandler = (jobClient, job) -> {
+            slowJobsStarted.countDown();
+            releaseSlowJobs.await();
+            jobClient.newCompleteCommand(job.getKey()).send();
+        };
+        LimitedJobWorker slow = new LimitedJobWorker(client, settings("slow", 2),
+                new DispatchingJobHandler(slowHandler, slowExecutor), new CompositeConcurrencyLimit(new FixedConcurrencyLimit(2), shared), null,
+                BackoffSupplier.newBackoffBuilder().build(), scheduler, null).open();
+
+        assertThat(slowJobsStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(shared.getInFlight()).isEqualTo(2);
+
+        // a job activated while the shared limit is taken waits until a permit is released
+        pendingRequest.complete(response(TestJobs.job(1, "slow")));
+        assertThat(otherJobHandled.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(otherCluster.responses).isEmpty();
+        releaseSlowJobs.countDown();
+        assertThat(otherJobHandled.await(10, TimeUnit.SECONDS)).isTrue();
+
+        slow.close();
+        other.close();
+    }
+
+    @Test
+    void pendingActivateRequestShouldNotCountAsInUseForTheAdaptiveLimit() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 10, TimeUnit.SECONDS.toNanos(1));
+        PendingActivations activations = new PendingActivations();
+        LimitedJobWorker worker = new LimitedJobWorker(activations.client(), settings("slow", 10), (jobClient, job) -> {
+        }, limit, null, BackoffSupplier.newBackoffBuilder().build(), scheduler, null).open();
+
+        assertThat(activations.responses.poll(10, TimeUnit.SECONDS)).isNotNull();
+        assertThat(activations.maxJobs).containsExactly(2);
+        assertThat(limit.getInFlight()).isZero();
+        worker.close();
+    }
+
+    private LimitedJobWorker.Settings settings(String type, int maxJobsToActivate) {
+        return new LimitedJobWorker.Settings(type, "test", Duration.ofMinutes(5), Duration.ofSeconds(1),
+                Duration.ofMillis(10), maxJobsToActivate, null);
+    }
+
+    private static ActivateJobsResponse response(ActivatedJob... jobs) {
+        return (ActivateJobsResponse) Proxy.newProxyInstance(ActivateJobsResponse.class.getClassLoader(), new Class<?>[]{ActivateJobsResponse.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getJobs" -> List.of(jobs);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * A client whose activate requests are answered by the test, like long polling requests held open by the gateway.
+     */
+    private static class PendingActivations {
+
+        private final BlockingQueue<CompletableFuture<ActivateJobsResponse>> responses = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Integer> maxJobs = new LinkedBlockingQueue<>();
+
+        private ZeebeClient client() {
+            ClassLoader classLoader = ZeebeClient.class.getClassLoader();
+            Object command = Proxy.newProxyInstance(classLoader,
+                    new Class<?>[]{ActivateJobsCommandStep1.class, ActivateJobsCommandStep2.class, ActivateJobsCommandStep3.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "maxJobsToActivate" -> {
+                            maxJobs.add((Integer) args[0]);
+                            yield proxy;
+                        }
+                        case "send" -> {
+                            CompletableFuture<ActivateJobsResponse> response = new CompletableFuture<>();
+                            responses.add(response);
+                            yield future(response);
+                        }
+                        default -> proxy;
+                    });
+            return (ZeebeClient) Proxy.newProxyInstance(classLoader, new Class<?>[]{ZeebeClient.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "newActivateJobsCommand" -> command;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static ZeebeFuture<ActivateJobsResponse> future(CompletableFuture<ActivateJobsResponse> response) {
+            return (ZeebeFuture<ActivateJobsResponse>) Proxy.newProxyInstance(ZeebeFuture.class.getClassLoader(), new Class<?>[]{ZeebeFuture.class},
+                    (proxy, method, args) -> method.invoke(response, args));
+        }
+    }
+}
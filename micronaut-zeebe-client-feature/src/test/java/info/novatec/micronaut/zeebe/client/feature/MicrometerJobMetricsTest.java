@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerJobMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerJobMetrics metrics = new MicrometerJobMetrics(registry);
+
+    @Test
+    void shouldRecordCommandsWithOneTimerPerTypeCommandAndOutcome() {
+        metrics.commandSent("charge", "complete", TimeUnit.MILLISECONDS.toNanos(2), true);
+        metrics.commandSent("charge", "complete", TimeUnit.MILLISECONDS.toNanos(4), true);
+        metrics.commandSent("charge", "complete", TimeUnit.MILLISECONDS.toNanos(8), false);
+        metrics.commandSent("charge", "fail", TimeUnit.MILLISECONDS.toNanos(1), true);
+
+        assertThat(metrics.commandTimers).hasSize(3);
+        Timer success = registry.get(MicrometerJobMetrics.PREFIX + "command")
+                .tags("type", "charge", "command", "complete", "outcome", "success")
+                .timer();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6);
+        assertThat(registry.get(MicrometerJobMetrics.PREFIX + "command").timers()).hasSize(3);
+    }
+
+    @Test
+    void shouldRecordWorkersOfEachClusterWithTheirOwnMeters() {
+        JobTypeMetrics defaultCluster = metrics.forJobType("", "charge", Duration.ofMinutes(5));
+        JobTypeMetrics eu = metrics.forJobType("eu", "charge", Duration.ofMinutes(5));
+
+        defaultCluster.jobActivated(2);
+        eu.jobActivated(3);
+        eu.jobHandled(1);
+
+        assertThat(registry.get(MicrometerJobMetrics.PREFIX + "activated")
+                .tags("type", "charge", "cluster", MicrometerJobMetrics.DEFAULT_CLUSTER).counter().count()).isEqualTo(2);
+        assertThat(registry.get(MicrometerJobMetrics.PREFIX + "activated")
+                .tags("type", "charge", "cluster", "eu").counter().count()).isEqualTo(3);
+        assertThat(registry.get(MicrometerJobMetrics.PREFIX + "in.flight")
+                .tags("type", "charge", "cluster", "eu").gauge().value()).isEqualTo(2);
+    }
+}
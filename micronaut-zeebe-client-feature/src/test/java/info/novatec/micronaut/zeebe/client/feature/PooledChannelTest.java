@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class PooledChannelTest {
+
+    private final List<ClientCall<?, ?>> calls = new ArrayList<>();
+
+    private FakeGateway gateway;
+    private List<ManagedChannel> channels;
+
+    @BeforeEach
+    void start() throws Exception {
+        gateway = FakeGateway.builder().build().start();
+        channels = IntStream.range(0, 3)
+                .mapToObj(i -> Grpc.newChannelBuilder(gateway.getAddress(), InsecureChannelCredentials.create()).build())
+                .toList();
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        calls.forEach(call -> call.cancel("test finished", null));
+        channels.forEach(ManagedChannel::shutdownNow);
+        gateway.close();
+    }
+
+    @Test
+    void roundRobinShouldUseTheChannelsInTurn() {
+        PooledChannel pool = new PooledChannel(channels, PooledChannel.Selection.ROUND_ROBIN);
+
+        assertThat(IntStream.range(0, 6).map(i -> pool.select())).containsExactly(0, 1, 2, 0, 1, 2);
+    }
+
+    @Test
+    void leastLoadedShouldUseTheChannelWithTheFewestCalls() {
+        PooledChannel pool = new PooledChannel(channels, PooledChannel.Selection.LEAST_LOADED);
+
+        openStream(pool);
+        openStream(pool);
+        openStream(pool);
+        openStream(pool);
+
+        assertThat(pool.getActiveCalls()).containsExactly(2, 1, 1);
+        assertThat(pool.select()).isIn(1, 2);
+    }
+
+    @Test
+    void shouldCountCallsUntilTheyClose() throws Exception {
+        PooledChannel pool = new PooledChannel(channels, PooledChannel.Selection.ROUND_ROBIN);
+
+        GatewayGrpc.newBlockingStub(pool).topology(TopologyRequest.getDefaultInstance());
+        openStream(pool);
+
+        assertThat(pool.getActiveCalls()).containsExactly(0, 1, 0);
+        calls.forEach(call -> call.cancel("closed by test", null));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.getActiveCalls()[1] > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(pool.getActiveCalls()).containsOnly(0);
+    }
+
+    @Test
+    void shouldParseSelection() {
+        assertThat(PooledChannel.Selection.parse("least-loaded")).isEqualTo(PooledChannel.Selection.LEAST_LOADED);
+        assertThat(PooledChannel.Selection.parse(" round_robin ")).isEqualTo(PooledChannel.Selection.ROUND_ROBIN);
+    }
+
+    @Test
+    void shouldRejectEmptyPool() {
+        assertThatThrownBy(() -> new PooledChannel(List.of(), PooledChannel.Selection.ROUND_ROBIN)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Opens a job stream, which stays open until it is cancelled.
+     */
+    private void openStream(PooledChannel pool) {
+        ClientCall<StreamActivatedJobsRequest, ActivatedJob> call = pool.newCall(GatewayGrpc.getStreamActivatedJobsMethod(), CallOptions.DEFAULT);
+        call.start(new ClientCall.Listener<>() {
+        }, new Metadata());
+        call.sendMessage(StreamActivatedJobsRequest.newBuilder().setType("say-hello").setWorker("test").setTimeout(60_000).build());
+        call.halfClose();
+        calls.add(call);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldHandOutTheBurstAtOnce() {
+        RateLimiter rateLimiter = new RateLimiter(10, 5, 0);
+
+        assertThat(rateLimiter.available(0)).isEqualTo(5);
+        rateLimiter.acquire(5, 0);
+        assertThat(rateLimiter.available(0)).isZero();
+    }
+
+    @Test
+    void shouldRefillAtTheRate() {
+        RateLimiter rateLimiter = new RateLimiter(10, 5, 0);
+        rateLimiter.acquire(5, 0);
+
+        assertThat(rateLimiter.nanosUntilAvailable(0)).isEqualTo(SECOND / 10);
+        assertThat(rateLimiter.available(SECOND / 10 * 3)).isEqualTo(3);
+        rateLimiter.acquire(3, SECOND / 10 * 3);
+        assertThat(rateLimiter.nanosUntilAvailable(SECOND / 10 * 3)).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    void shouldNotRefillBeyondTheBurst() {
+        RateLimiter rateLimiter = new RateLimiter(10, 5, 0);
+
+        assertThat(rateLimiter.available(60 * SECOND)).isEqualTo(5);
+    }
+
+    @Test
+    void shouldDelayTheNextPermitAfterMorePermitsThanAvailableWereTaken() {
+        RateLimiter rateLimiter = new RateLimiter(10, 5, 0);
+
+        rateLimiter.acquire(8, 0);
+
+        assertThat(rateLimiter.available(0)).isZero();
+        assertThat(rateLimiter.nanosUntilAvailable(0)).isEqualTo(SECOND / 10 * 4);
+        assertThat(rateLimiter.available(SECOND / 10 * 4)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepTheRateWhenPolledContinuously() {
+        RateLimiter rateLimiter = new RateLimiter(100, 1, 0);
+        long millisecond = TimeUnit.MILLISECONDS.toNanos(1);
+
+        int acquired = 0;
+        for (long now = 0; now <= 10 * SECOND; now += millisecond) {
+            int permits = Math.min(10, rateLimiter.available(now));
+            rateLimiter.acquire(permits, now);
+            acquired += permits;
+        }
+
+        assertThat(acquired).isCloseTo(1001, within(1));
+    }
+
+    @Test
+    void shouldSupportRatesBelowOnePermitPerSecond() {
+        RateLimiter rateLimiter = new RateLimiter(0.5, 1, 0);
+        rateLimiter.acquire(1, 0);
+
+        assertThat(rateLimiter.nanosUntilAvailable(0)).isEqualTo(2 * SECOND);
+        assertThat(rateLimiter.available(SECOND)).isZero();
+        assertThat(rateLimiter.available(2 * SECOND)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectNonPositiveRates() {
+        assertThatThrownBy(() -> new RateLimiter(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
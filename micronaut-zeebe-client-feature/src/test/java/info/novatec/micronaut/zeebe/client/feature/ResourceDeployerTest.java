@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import io.camunda.zeebe.client.ZeebeClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class ResourceDeployerTest {
+
+    private static final String PROCESS = "<definitions id=\"order\"/>";
+
+    @TempDir
+    Path directory;
+
+    // the fake gateway does not implement deployments, so every deployment fails
+    private FakeGateway gateway;
+    private ZeebeClient client;
+    private Path cacheFile;
+    private ResourceDeployer deployer;
+
+    @BeforeEach
+    void start() throws Exception {
+        gateway = FakeGateway.builder().build().start();
+        client = ZeebeClient.newClientBuilder()
+                .gatewayAddress(gateway.getAddress())
+                .usePlaintext()
+                .build();
+        Files.writeString(directory.resolve("order.bpmn"), PROCESS);
+        cacheFile = directory.resolve("cache/deployments.properties");
+        deployer = new ResourceDeployer(client, configuration(), new StartupPhases(null));
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        client.close();
+        gateway.close();
+    }
+
+    @Test
+    void shouldSkipResourcesUnchangedOnTheSameCluster() throws Exception {
+        String clusterId = deployer.getClusterId(client.newTopologyRequest().send().join());
+        storeCache(deployer.getCacheKey(clusterId, "order.bpmn"), deployer.hash(PROCESS.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(deployer.deploy()).isEmpty();
+    }
+
+    @Test
+    void shouldDeployResourcesCachedForAnotherCluster() throws Exception {
+        storeCache(deployer.getCacheKey(gateway.getAddress(), "order.bpmn"), deployer.hash(PROCESS.getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(deployer::deploy)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Could not deploy 1 resources");
+    }
+
+    @Test
+    void shouldDeployChangedResources() throws Exception {
+        String clusterId = deployer.getClusterId(client.newTopologyRequest().send().join());
+        storeCache(deployer.getCacheKey(clusterId, "order.bpmn"), deployer.hash("<definitions/>".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(deployer::deploy).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldNotCacheFailedDeployments() {
+        assertThat(deployer.deployAsync()).failsWithin(Duration.ofSeconds(10));
+
+        assertThat(cacheFile).doesNotExist();
+    }
+
+    @Test
+    void shouldFailWhenClusterIsUnreachable() throws Exception {
+        gateway.close();
+
+        assertThatThrownBy(deployer::deploy).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void storeCache(String key, String hash) throws Exception {
+        Properties cache = new Properties();
+        cache.setProperty(key, hash);
+        Files.createDirectories(cacheFile.getParent());
+        try (OutputStream out = Files.newOutputStream(cacheFile)) {
+            cache.store(out, null);
+        }
+    }
+
+    private DeploymentConfiguration configuration() {
+        return new DeploymentConfiguration() {
+            @Override
+            public Optional<List<String>> getResources() {
+                return Optional.of(List.of("file:" + directory.toAbsolutePath().toString().replace('\\', '/') + "/*.bpmn"));
+            }
+
+            @Override
+            public Optional<String> getCacheFile() {
+                return Optional.of(cacheFile.toString());
+            }
+
+            @Override
+            public Optional<String> getTimeout() {
+                return Optional.of("PT10S");
+            }
+
+            @Override
+            public Optional<Boolean> getFailStartup() {
+                return Optional.of(true);
+            }
+        };
+    }
+}
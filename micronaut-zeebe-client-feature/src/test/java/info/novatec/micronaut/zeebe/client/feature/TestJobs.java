@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Activated jobs for tests: jobs activated from a {@link info.novatec.micronaut.zeebe.client.testing.FakeGateway}, which
+ * accepts commands, or stand-ins which only provide the key, type, variables, retries and deadline of a job.
+ */
+final class TestJobs {
+
+    private TestJobs() {
+    }
+
+    static List<ActivatedJob> activate(ZeebeClient client, String type, int count) {
+        return client.newActivateJobsCommand()
+                .jobType(type)
+                .maxJobsToActivate(count)
+                .timeout(Duration.ofMinutes(5))
+                .send()
+                .join()
+                .getJobs();
+    }
+
+    static ActivatedJob job(long key, String type) {
+        return job(key, type, "{}");
+    }
+
+    static ActivatedJob job(long key, String type, String variables) {
+        long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5);
+        return (ActivatedJob) Proxy.newProxyInstance(ActivatedJob.class.getClassLoader(), new Class<?>[]{ActivatedJob.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getKey" -> key;
+                    case "getType" -> type;
+                    case "getVariables" -> variables;
+                    case "getRetries" -> 3;
+                    case "getDeadline" -> deadline;
+                    case "hashCode" -> Long.hashCode(key);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "job " + key + " of type " + type;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.feature;
+
+import info.novatec.micronaut.zeebe.client.testing.FakeGateway;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class WindowedJobCompleterTest {
+
+    private FakeGateway gateway;
+    private ZeebeClient client;
+    private WindowedJobCompleter jobCompleter;
+
+    @AfterEach
+    void stop() throws Exception {
+        client.close();
+        gateway.close();
+    }
+
+    @Test
+    void shouldCompleteAllJobs() throws Exception {
+        List<ActivatedJob> jobs = start(100, Duration.ZERO);
+        jobCompleter = new WindowedJobCompleter(8, 1024, null);
+
+        List<CompletableFuture<?>> results = completeAll(jobs);
+
+        assertThat(jobCompleter.flush(Duration.ofSeconds(10))).isTrue();
+        assertThat(results).allMatch(result -> result.isDone() && !result.isCompletedExceptionally());
+        assertThat(gateway.getCommands()).hasSize(100);
+    }
+
+    @Test
+    void shouldQueueCommandsWhileTheWindowIsFull() throws Exception {
+        List<ActivatedJob> jobs = start(10, Duration.ofMillis(200));
+        jobCompleter = new WindowedJobCompleter(2, 1024, null);
+
+        List<CompletableFuture<?>> results = completeAll(jobs);
+
+        assertThat(jobCompleter.getQueued()).isEqualTo(8);
+        assertThat(jobCompleter.flush(Duration.ofSeconds(10))).isTrue();
+        assertThat(jobCompleter.getQueued()).isZero();
+        assertThat(results).allMatch(result -> result.isDone() && !result.isCompletedExceptionally());
+        assertThat(gateway.getCommands()).hasSize(10);
+    }
+
+    @Test
+    void flushShouldWaitForQueuedAndInFlightCommands() throws Exception {
+        List<ActivatedJob> jobs = start(10, Duration.ofMillis(200));
+        jobCompleter = new WindowedJobCompleter(2, 1024, null);
+
+        completeAll(jobs);
+
+        assertThat(jobCompleter.getOutstanding()).isEqualTo(10);
+        assertThat(jobCompleter.flush(Duration.ofMillis(10))).isFalse();
+        assertThat(jobCompleter.flush(Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).hasSize(10);
+    }
+
+    @Test
+    void shouldLetCallersWaitWhileTheQueueIsFull() throws Exception {
+        List<ActivatedJob> jobs = start(4, Duration.ofMillis(200));
+        jobCompleter = new WindowedJobCompleter(1, 1, null);
+
+        // one command is in flight and one is queued, the third caller waits for the first response
+        CompletableFuture<List<CompletableFuture<?>>> callers = CompletableFuture.supplyAsync(() -> completeAll(jobs));
+
+        assertThatThrownBy(() -> callers.get(100, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+        assertThat(jobCompleter.getQueued()).isEqualTo(1);
+        assertThat(callers).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(jobCompleter.flush(Duration.ofSeconds(10))).isTrue();
+        assertThat(callers.join()).allMatch(result -> result.isDone() && !result.isCompletedExceptionally());
+        assertThat(gateway.getCommands()).hasSize(4);
+    }
+
+    @Test
+    void shouldSendQueuedCommandAfterAFailedCommand() throws Exception {
+        List<ActivatedJob> jobs = start(1, Duration.ofMillis(50));
+        jobCompleter = new WindowedJobCompleter(1, 1, null);
+
+        // the gateway rejects the command of an unknown job
+        CompletableFuture<?> rejected = jobCompleter.complete(client, TestJobs.job(-1, "charge"), "{}").toCompletableFuture();
+        CompletableFuture<?> completed = jobCompleter.complete(client, jobs.get(0), "{}").toCompletableFuture();
+
+        assertThat(rejected).failsWithin(Duration.ofSeconds(10));
+        assertThat(completed).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(jobCompleter.flush(Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).hasSize(1);
+    }
+
+    private List<ActivatedJob> start(int jobs, Duration commandLatency) throws Exception {
+        gateway = FakeGateway.builder()
+                .jobs("charge", jobs)
+                .commandLatency(commandLatency)
+                .build()
+                .start();
+        client = ZeebeClient.newClientBuilder()
+                .gatewayAddress(gateway.getAddress())
+                .usePlaintext()
+                .build();
+        return TestJobs.activate(client, "charge", jobs);
+    }
+
+    private List<CompletableFuture<?>> completeAll(List<ActivatedJob> jobs) {
+        List<CompletableFuture<?>> results = new ArrayList<>();
+        for (ActivatedJob job : jobs) {
+            results.add(jobCompleter.complete(client, job, "{}").toCompletableFuture());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.processor;
+
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.GeneratedFile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates the GraalVM reflection configuration for the variable types of all {@code @ZeebeWorker} methods at compile
+ * time, i.e. the types of parameters annotated with {@code @Variable} or {@code @VariablesAsType} and the return types of
+ * auto-completed methods together with the types of their bean properties. These types are created and read by Jackson
+ * via reflection.
+ * <p>
+ * The configuration is written to "META-INF/native-image/&lt;package&gt;/zeebe-workers/reflect-config.json" of the
+ * compiled project and picked up by native-image automatically.
+ */
+public class ZeebeWorkerReflectionVisitor implements TypeElementVisitor<Object, Object> {
+
+    static final String ZEEBE_WORKER = "info.novatec.micronaut.zeebe.client.feature.ZeebeWorker";
+    static final String VARIABLE = "info.novatec.micronaut.zeebe.client.feature.Variable";
+    static final String VARIABLES_AS_TYPE = "info.novatec.micronaut.zeebe.client.feature.VariablesAsType";
+
+    private static final List<String> SKIPPED_PACKAGES = List.of("java.", "javax.", "jakarta.", "kotlin.",
+            "io.camunda.", "io.micronaut.", "org.reactivestreams.", "reactor.", "io.reactivex.");
+
+    private final Set<String> types = new TreeSet<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+    private String basePackage;
+
+    @Override
+    public Set<String> getSupportedAnnotationNames() {
+        return Set.of(ZEEBE_WORKER);
+    }
+
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
+    }
+
+    @Override
+    public void visitMethod(MethodElement element, VisitorContext context) {
+        if (!element.hasAnnotation(ZEEBE_WORKER)) {
+            return;
+        }
+        int count = types.size();
+        for (ParameterElement parameter : element.getParameters()) {
+            if (parameter.hasAnnotation(VARIABLE) || parameter.hasAnnotation(VARIABLES_AS_TYPE)) {
+                addType(parameter.getGenericType());
+            }
+        }
+        addType(element.getGenericReturnType());
+        if (types.size() > count) {
+            ClassElement declaringType = element.getDeclaringType();
+            originatingElements.add(declaringType);
+            if (basePackage == null) {
+                basePackage = declaringType.getPackageName();
+            }
+        }
+    }
+
+    @Override
+    public void finish(VisitorContext visitorContext) {
+        if (types.isEmpty()) {
+            return;
+        }
+        String path = "native-image/" + basePackage + "/zeebe-workers/reflect-config.json";
+        visitorContext.visitMetaInfFile(path, originatingElements.toArray(Element[]::new)).ifPresent(file -> write(file, visitorContext));
+        types.clear();
+        originatingElements.clear();
+    }
+
+    protected void write(GeneratedFile file, VisitorContext visitorContext) {
+        try (Writer writer = file.openWriter()) {
+            writer.write("[\n");
+            int i = 0;
+            for (String type : types) {
+                writer.write("  {\"name\":" + toJsonString(type) + ", \"allDeclaredConstructors\":true, \"allPublicConstructors\":true, "
+                        + "\"allDeclaredMethods\":true, \"allPublicMethods\":true, \"allDeclaredFields\":true}");
+                writer.write(++i < types.size() ? ",\n" : "\n");
+            }
+            writer.write("]\n");
+        } catch (IOException e) {
+            visitorContext.fail("Could not write GraalVM reflection configuration for Zeebe workers: " + e.getMessage(), null);
+        }
+    }
+
+    /**
+     * @return the value as JSON string, with quotes, backslashes and control characters escaped
+     */
+    protected static String toJsonString(String value) {
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    /**
+     * Adds the type, its type arguments and the types of its bean properties.
+     */
+    protected void addType(ClassElement type) {
+        if (type == null) {
+            return;
+        }
+        if (type.isArray()) {
+            addType(type.fromArray());
+            return;
+        }
+        if (type.isPrimitive()) {
+            return;
+        }
+        type.getTypeArguments().values().forEach(this::addType);
+        String name = type.getName();
+        if (SKIPPED_PACKAGES.stream().anyMatch(name::startsWith) || !types.add(name)) {
+            return;
+        }
+        for (PropertyElement property : type.getBeanProperties()) {
+            addType(property.getGenericType());
+        }
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.testing;
+
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An in-process stand-in for the gRPC Gateway service of Zeebe to load test job workers without a broker. Point the
+ * client at {@link #getAddress()}, e.g. with "zeebe.client.cloud.gateway-address", and the gateway generates the jobs
+ * of the configured {@link FakeJobStream}s, both for polling and for job streaming, and records the complete, fail
+ * and throw error commands together with the latency from the activation of the job. The response to every command
+ * can be delayed to simulate a loaded broker.
+ * <p>
+ * Only the job related RPCs and the topology are implemented. Jobs are not reactivated after their timeout or when
+ * they are failed with remaining retries, and activation requests are answered immediately instead of long polling.
+ * <pre>{@code
+ * try (FakeGateway gateway = FakeGateway.builder()
+ *         .jobs("say-hello", 10_000)
+ *         .commandLatency(Duration.ofMillis(2), Duration.ofMillis(1))
+ *         .build()
+ *         .start()) {
+ *     // start the application with zeebe.client.cloud.gateway-address=gateway.getAddress()
+ *     gateway.awaitCommands(10_000, Duration.ofMinutes(1));
+ *     Duration p99 = gateway.getLatencyPercentile(99);
+ * }
+ * }</pre>
+ */
+public class FakeGateway extends GatewayGrpc.GatewayImplBase implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FakeGateway.class);
+
+    protected final int port;
+    protected final Map<String, FakeJobStream> jobStreams;
+    protected final Duration commandLatency;
+    protected final Duration commandLatencyJitter;
+
+    protected final AtomicLong jobKeys = new AtomicLong(2251799813685248L);
+    protected final Map<Long, ActiveJob> activeJobs = new ConcurrentHashMap<>();
+    protected final Map<String, Collection<JobStreamObserver>> jobStreamObservers = new ConcurrentHashMap<>();
+    protected final List<RecordedCommand> commands = new ArrayList<>();
+    protected final ScheduledExecutorService scheduler;
+    protected long startNanos;
+    protected Server server;
+
+    protected FakeGateway(Builder builder) {
+        this.port = builder.port;
+        this.jobStreams = Map.copyOf(builder.jobStreams);
+        this.commandLatency = builder.commandLatency;
+        this.commandLatencyJitter = builder.commandLatencyJitter;
+        this.scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(),
+                Thread.ofPlatform().name("fake-gateway-", 0).daemon().factory());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Starts to listen for requests and to generate jobs.
+     *
+     * @return this gateway
+     * @throws IOException if the server cannot be bound
+     */
+    public FakeGateway start() throws IOException {
+        server = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+                .addService(this)
+                .build()
+                .start();
+        startNanos = System.nanoTime();
+        jobStreams.values().forEach(FakeJobStream::start);
+        scheduler.scheduleWithFixedDelay(this::pushToJobStreams, 1, 1, TimeUnit.MILLISECONDS);
+        log.info("Fake gateway listening on {}", getAddress());
+        return this;
+    }
+
+    /**
+     * @return the address to connect the client to
+     */
+    public String getAddress() {
+        return "localhost:" + server.getPort();
+    }
+
+    /**
+     * @return a copy of the commands received so far
+     */
+    public List<RecordedCommand> getCommands() {
+        synchronized (commands) {
+            return List.copyOf(commands);
+        }
+    }
+
+    /**
+     * Waits until the given number of commands has been received.
+     *
+     * @param count the number of commands
+     * @param timeout the maximum time to wait
+     * @return whether the commands were received in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitCommands(long count, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (commands) {
+            while (commands.size() < count) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(commands, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @param percentile the percentile between 0 and 100, e.g. 99.9
+     * @return the latency from the activation of a job until its command was received at the percentile
+     */
+    public Duration getLatencyPercentile(double percentile) {
+        long[] latencies = getCommands().stream().mapToLong(command -> command.latency().toNanos()).sorted().toArray();
+        if (latencies.length == 0) {
+            return Duration.ZERO;
+        }
+        int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+        return Duration.ofNanos(latencies[Math.max(0, Math.min(index, latencies.length - 1))]);
+    }
+
+    /**
+     * @return the received commands per second from the start of the gateway until the last command
+     */
+    public double getThroughput() {
+        List<RecordedCommand> received = getCommands();
+        if (received.isEmpty()) {
+            return 0;
+        }
+        long elapsedNanos = received.get(received.size() - 1).receivedAtNanos() - startNanos;
+        return received.size() * 1_000_000_000d / Math.max(1, elapsedNanos);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        jobStreamObservers.values().forEach(observers -> observers.forEach(stream -> stream.observer().onCompleted()));
+        scheduler.shutdownNow();
+        if (server != null) {
+            server.shutdown();
+            if (!server.awaitTermination(5, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+        }
+    }
+
+    @Override
+    public void topology(TopologyRequest request, StreamObserver<TopologyResponse> responseObserver) {
+        responseObserver.onNext(TopologyResponse.newBuilder()
+                .addBrokers(BrokerInfo.newBuilder()
+                        .setNodeId(0)
+                        .setHost("localhost")
+                        .setPort(server.getPort())
+                        .setVersion("fake")
+                        .addPartitions(Partition.newBuilder()
+                                .setPartitionId(1)
+                                .setRole(Partition.PartitionBrokerRole.LEADER)
+                                .setHealth(Partition.PartitionBrokerHealth.HEALTHY)))
+                .setClusterSize(1)
+                .setPartitionsCount(1)
+                .setReplicationFactor(1)
+                .setGatewayVersion("fake")
+                .build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void activateJobs(ActivateJobsRequest request, StreamObserver<ActivateJobsResponse> responseObserver) {
+        FakeJobStream jobStream = jobStreams.get(request.getType());
+        long count = jobStream == null ? 0 : jobStream.take(request.getMaxJobsToActivate());
+        if (count > 0) {
+            ActivateJobsResponse.Builder response = ActivateJobsResponse.newBuilder();
+            for (long i = 0; i < count; i++) {
+                response.addJobs(createJob(jobStream, request.getWorker(), request.getTimeout()));
+            }
+            responseObserver.onNext(response.build());
+        }
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void streamActivatedJobs(StreamActivatedJobsRequest request, StreamObserver<ActivatedJob> responseObserver) {
+        Collection<JobStreamObserver> observers = jobStreamObservers.computeIfAbsent(request.getType(), type -> new CopyOnWriteArrayList<>());
+        JobStreamObserver stream = new JobStreamObserver((ServerCallStreamObserver<ActivatedJob>) responseObserver, request.getWorker(), request.getTimeout());
+        stream.observer().setOnCancelHandler(() -> observers.remove(stream));
+        observers.add(stream);
+    }
+
+    @Override
+    public void completeJob(CompleteJobRequest request, StreamObserver<CompleteJobResponse> responseObserver) {
+        handleCommand(RecordedCommand.Type.COMPLETE, request.getJobKey(), request.getVariables(), responseObserver, CompleteJobResponse.getDefaultInstance());
+    }
+
+    @Override
+    public void failJob(FailJobRequest request, StreamObserver<FailJobResponse> responseObserver) {
+        handleCommand(RecordedCommand.Type.FAIL, request.getJobKey(), request.getVariables(), responseObserver, FailJobResponse.getDefaultInstance());
+    }
+
+    @Override
+    public void throwError(ThrowErrorRequest request, StreamObserver<ThrowErrorResponse> responseObserver) {
+        handleCommand(RecordedCommand.Type.THROW_ERROR, request.getJobKey(), request.getVariables(), responseObserver, ThrowErrorResponse.getDefaultInstance());
+    }
+
+    protected <T> void handleCommand(RecordedCommand.Type type, long jobKey, String variables, StreamObserver<T> responseObserver, T response) {
+        long receivedAtNanos = System.nanoTime();
+        ActiveJob job = activeJobs.remove(jobKey);
+        if (job == null) {
+            respond(() -> responseObserver.onError(Status.NOT_FOUND
+                    .withDescription("Expected to %s job with key '%d', but no such job was found".formatted(type, jobKey))
+                    .asRuntimeException()));
+            return;
+        }
+        synchronized (commands) {
+            commands.add(new RecordedCommand(type, jobKey, job.jobType(), variables, Duration.ofNanos(receivedAtNanos - job.activatedAtNanos()), receivedAtNanos));
+            commands.notifyAll();
+        }
+        respond(() -> {
+            responseObserver.onNext(response);
+            responseObserver.onCompleted();
+        });
+    }
+
+    protected void respond(Runnable response) {
+        long latencyNanos = commandLatency.toNanos();
+        if (!commandLatencyJitter.isZero()) {
+            latencyNanos += ThreadLocalRandom.current().nextLong(commandLatencyJitter.toNanos() + 1);
+        }
+        if (latencyNanos <= 0) {
+            response.run();
+        } else {
+            scheduler.schedule(response, latencyNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    protected void pushToJobStreams() {
+        jobStreamObservers.forEach((type, observers) -> {
+            FakeJobStream jobStream = jobStreams.get(type);
+            if (jobStream == null) {
+                return;
+            }
+            for (JobStreamObserver stream : observers) {
+                try {
+                    // respect the flow control of gRPC instead of buffering an unlimited number of jobs
+                    while (stream.observer().isReady() && jobStream.take(1) == 1) {
+                        stream.observer().onNext(createJob(jobStream, stream.worker(), stream.timeout()));
+                    }
+                } catch (RuntimeException e) {
+                    log.debug("Removing job stream for job type '{}'", type, e);
+                    observers.remove(stream);
+                }
+            }
+        });
+    }
+
+    protected ActivatedJob createJob(FakeJobStream jobStream, String worker, long timeout) {
+        long key = jobKeys.incrementAndGet();
+        activeJobs.put(key, new ActiveJob(jobStream.getJobType(), System.nanoTime()));
+        return ActivatedJob.newBuilder()
+                .setKey(key)
+                .setType(jobStream.getJobType())
+                .setProcessInstanceKey(key)
+                .setBpmnProcessId("fake-process")
+                .setProcessDefinitionVersion(1)
+                .setProcessDefinitionKey(1)
+                .setElementId("fake-task")
+                .setElementInstanceKey(key)
+                .setCustomHeaders(jobStream.getCustomHeaders())
+                .setWorker(worker)
+                .setRetries(jobStream.getRetries())
+                .setDeadline(System.currentTimeMillis() + timeout)
+                .setVariables(jobStream.nextVariables())
+                .setTenantId("<default>")
+                .build();
+    }
+
+    protected record ActiveJob(String jobType, long activatedAtNanos) {
+    }
+
+    protected record JobStreamObserver(ServerCallStreamObserver<ActivatedJob> observer, String worker, long timeout) {
+    }
+
+    public static class Builder {
+
+        private int port = 0;
+        private final Map<String, FakeJobStream> jobStreams = new LinkedHashMap<>();
+        private Duration commandLatency = Duration.ZERO;
+        private Duration commandLatencyJitter = Duration.ZERO;
+
+        /**
+         * @param port the port to listen on, a free port is chosen if 0
+         * @return this builder
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * @param jobType the type of the jobs
+         * @param count the number of jobs or {@link FakeJobStream#UNLIMITED}
+         * @return this builder
+         */
+        public Builder jobs(String jobType, long count) {
+            return jobStream(new FakeJobStream(jobType, count));
+        }
+
+        public Builder jobStream(FakeJobStream jobStream) {
+            jobStreams.put(jobStream.getJobType(), jobStream);
+            return this;
+        }
+
+        /**
+         * @param latency the delay of the response to every job command
+         * @return this builder
+         */
+        public Builder commandLatency(Duration latency) {
+            return commandLatency(latency, Duration.ZERO);
+        }
+
+        /**
+         * @param latency the minimum delay of the response to every job command
+         * @param jitter the maximum random delay added to the latency
+         * @return this builder
+         */
+        public Builder commandLatency(Duration latency, Duration jitter) {
+            this.commandLatency = latency;
+            this.commandLatencyJitter = jitter;
+            return this;
+        }
+
+        public FakeGateway build() {
+            return new FakeGateway(this);
+        }
+    }
+}
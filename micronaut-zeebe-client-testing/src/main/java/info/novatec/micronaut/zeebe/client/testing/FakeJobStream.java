@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.testing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The jobs of one job type generated by a {@link FakeGateway}. A stream is either finite or unlimited and can be
+ * limited to a number of jobs per second, counted from the start of the gateway.
+ */
+public class FakeJobStream {
+
+    public static final long UNLIMITED = -1;
+
+    private final String jobType;
+    private final long count;
+    private final AtomicLong created = new AtomicLong();
+    private double jobsPerSecond = 0;
+    private int retries = 3;
+    private Supplier<String> variables = () -> "{}";
+    private String customHeaders = "{}";
+    private volatile long startNanos = System.nanoTime();
+
+    /**
+     * @param jobType the type of the generated jobs
+     * @param count the number of jobs to generate or {@link #UNLIMITED}
+     */
+    public FakeJobStream(String jobType, long count) {
+        this.jobType = jobType;
+        this.count = count;
+    }
+
+    /**
+     * Limit the number of jobs which can be activated per second, e.g. to measure the latency at a given load.
+     *
+     * @param jobsPerSecond the rate, unlimited if not positive
+     * @return this stream
+     */
+    public FakeJobStream rate(double jobsPerSecond) {
+        this.jobsPerSecond = jobsPerSecond;
+        return this;
+    }
+
+    /**
+     * @param variables the variables of every job as JSON document
+     * @return this stream
+     */
+    public FakeJobStream variables(String variables) {
+        return variables(() -> variables);
+    }
+
+    /**
+     * @param variables called for every job to create its variables as JSON document
+     * @return this stream
+     */
+    public FakeJobStream variables(Supplier<String> variables) {
+        this.variables = variables;
+        return this;
+    }
+
+    /**
+     * @param customHeaders the custom headers of every job as JSON document
+     * @return this stream
+     */
+    public FakeJobStream customHeaders(String customHeaders) {
+        this.customHeaders = customHeaders;
+        return this;
+    }
+
+    /**
+     * @param retries the retries of every job
+     * @return this stream
+     */
+    public FakeJobStream retries(int retries) {
+        this.retries = retries;
+        return this;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    /**
+     * @return the number of jobs generated so far
+     */
+    public long getCreated() {
+        return created.get();
+    }
+
+    /**
+     * @return whether all jobs of a finite stream were generated
+     */
+    public boolean isExhausted() {
+        return count != UNLIMITED && created.get() >= count;
+    }
+
+    int getRetries() {
+        return retries;
+    }
+
+    String nextVariables() {
+        return variables.get();
+    }
+
+    String getCustomHeaders() {
+        return customHeaders;
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Reserves jobs to be activated.
+     *
+     * @param max the maximum number of jobs requested
+     * @return the number of jobs to create, between 0 and max
+     */
+    long take(long max) {
+        while (true) {
+            long current = created.get();
+            long available = count == UNLIMITED ? Long.MAX_VALUE : count - current;
+            if (jobsPerSecond > 0) {
+                double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000d;
+                available = Math.min(available, (long) (elapsedSeconds * jobsPerSecond) - current);
+            }
+            long taken = Math.min(max, available);
+            if (taken <= 0) {
+                return 0;
+            }
+            if (created.compareAndSet(current, current + taken)) {
+                return taken;
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.testing;
+
+import java.time.Duration;
+
+/**
+ * A job command received by the {@link FakeGateway}.
+ *
+ * @param type the type of the command
+ * @param jobKey the key of the job
+ * @param jobType the type of the job
+ * @param variables the variables sent with the command as JSON document, empty if none were sent
+ * @param latency the time from the activation of the job until the command was received
+ * @param receivedAtNanos the {@link System#nanoTime()} when the command was received
+ */
+public record RecordedCommand(Type type, long jobKey, String jobType, String variables, Duration latency, long receivedAtNanos) {
+
+    public enum Type {
+        COMPLETE, FAIL, THROW_ERROR
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package info.novatec.micronaut.zeebe.client.testing;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.response.Topology;
+import io.grpc.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Timeout(value = 1, unit = TimeUnit.MINUTES)
+class FakeGatewayTest {
+
+    private FakeGateway gateway;
+    private ZeebeClient client;
+
+    @AfterEach
+    void stop() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        if (gateway != null) {
+            gateway.close();
+        }
+    }
+
+    @Test
+    void shouldActivateConfiguredNumberOfJobs() throws Exception {
+        start(FakeGateway.builder().jobs("say-hello", 3));
+
+        assertThat(activate("say-hello", 10)).hasSize(3);
+        assertThat(activate("say-hello", 10)).isEmpty();
+        assertThat(activate("unknown", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldActivateJobsWithConfiguredVariablesHeadersAndRetries() throws Exception {
+        start(FakeGateway.builder().jobStream(new FakeJobStream("check-order", 1)
+                .variables("{\"orderId\":4711}")
+                .customHeaders("{\"region\":\"EU\"}")
+                .retries(5)));
+
+        ActivatedJob job = activate("check-order", 1).get(0);
+
+        assertThat(job.getType()).isEqualTo("check-order");
+        assertThat(job.getVariablesAsMap()).containsEntry("orderId", 4711);
+        assertThat(job.getCustomHeaders()).containsEntry("region", "EU");
+        assertThat(job.getRetries()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldRecordCommandsForActivatedJobs() throws Exception {
+        start(FakeGateway.builder().jobs("say-hello", 3));
+        List<ActivatedJob> jobs = activate("say-hello", 3);
+
+        client.newCompleteCommand(jobs.get(0)).variables("{\"greeted\":true}").send().join();
+        client.newFailCommand(jobs.get(1)).retries(0).send().join();
+        client.newThrowErrorCommand(jobs.get(2)).errorCode("not-found").send().join();
+
+        assertThat(gateway.awaitCommands(3, Duration.ofSeconds(10))).isTrue();
+        assertThat(gateway.getCommands()).extracting(RecordedCommand::type)
+                .containsExactly(RecordedCommand.Type.COMPLETE, RecordedCommand.Type.FAIL, RecordedCommand.Type.THROW_ERROR);
+        assertThat(gateway.getCommands()).extracting(RecordedCommand::jobKey)
+                .containsExactly(jobs.get(0).getKey(), jobs.get(1).getKey(), jobs.get(2).getKey());
+        assertThat(gateway.getCommands().get(0).variables()).contains("\"greeted\":true");
+        assertThat(gateway.getCommands()).allMatch(command -> command.jobType().equals("say-hello") && !command.latency().isNegative());
+        assertThat(gateway.getLatencyPercentile(100)).isEqualTo(gateway.getCommands().stream()
+                .map(RecordedCommand::latency).max(Duration::compareTo).orElseThrow());
+        assertThat(gateway.getThroughput()).isPositive();
+    }
+
+    @Test
+    void shouldRejectCommandsForUnknownJobs() throws Exception {
+        start(FakeGateway.builder().jobs("say-hello", 1));
+        ActivatedJob job = activate("say-hello", 1).get(0);
+        client.newCompleteCommand(job).send().join();
+
+        assertThatThrownBy(() -> client.newCompleteCommand(job).send().join())
+                .isInstanceOfSatisfying(ClientStatusException.class, e -> assertThat(e.getStatusCode()).isEqualTo(Status.Code.NOT_FOUND));
+        assertThat(gateway.getCommands()).hasSize(1);
+        assertThat(gateway.awaitCommands(2, Duration.ofMillis(100))).isFalse();
+    }
+
+    @Test
+    void shouldDelayCommandResponses() throws Exception {
+        start(FakeGateway.builder().jobs("say-hello", 1).commandLatency(Duration.ofMillis(200)));
+        ActivatedJob job = activate("say-hello", 1).get(0);
+
+        long start = System.nanoTime();
+        client.newCompleteCommand(job).send().join();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void shouldPushJobsToJobStreams() throws Exception {
+        start(FakeGateway.builder().jobs("say-hello", 5));
+        List<ActivatedJob> streamed = new CopyOnWriteArrayList<>();
+
+        client.newStreamJobsCommand()
+                .jobType("say-hello")
+                .consumer(streamed::add)
+                .send();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (streamed.size() < 5 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(streamed).hasSize(5);
+    }
+
+    @Test
+    void shouldReportSingleBrokerTopology() throws Exception {
+        start(FakeGateway.builder());
+
+        Topology topology = client.newTopologyRequest().send().join();
+
+        assertThat(topology.getClusterSize()).isEqualTo(1);
+        assertThat(topology.getPartitionsCount()).isEqualTo(1);
+        assertThat(topology.getBrokers()).singleElement().satisfies(broker -> assertThat(broker.getAddress()).isEqualTo(gateway.getAddress()));
+    }
+
+    private void start(FakeGateway.Builder builder) throws Exception {
+        gateway = builder.build().start();
+        client = ZeebeClient.newClientBuilder()
+                .gatewayAddress(gateway.getAddress())
+                .usePlaintext()
+                .build();
+    }
+
+    private List<ActivatedJob> activate(String type, int count) {
+        return client.newActivateJobsCommand()
+                .jobType(type)
+                .maxJobsToActivate(count)
+                .timeout(Duration.ofMinutes(5))
+                .send()
+                .join()
+                .getJobs();
+    }
+}